@@ -0,0 +1,191 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.CompactStrings;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary encoding of cached employee values for the off-heap tier.
+ *
+ * <p>A single {@link Employee} is one row; an employee list is a title dictionary followed by one row per employee,
+ * and always decodes to an {@link EmployeeSnapshot}. A row is the packed UUID, salary and age as ints with
+ * {@link EmployeeSnapshot#NO_VALUE} for absent, a title code and length-prefixed {@link CompactStrings} name and email
+ * bytes ({@code -1} for null), so a snapshot is copied out column by column without materialising DTOs.
+ */
+public final class EmployeeCodec {
+
+    private static final byte EMPLOYEE = 1;
+    private static final byte EMPLOYEE_LIST = 2;
+    private static final int ROW_FIXED_BYTES = 8 + 8 + 4 + 4 + 4 + 4 + 4;
+
+    private EmployeeCodec() {}
+
+    /**
+     * Encodes an {@link Employee} or a list of them, or returns {@code null} for any other value.
+     */
+    public static byte[] encode(Object value) {
+        if (value instanceof Employee employee) {
+            return encodeEmployee(employee);
+        }
+        if (value instanceof EmployeeSnapshot snapshot) {
+            return encodeSnapshot(snapshot);
+        }
+        if (value instanceof List<?> list && list.stream().allMatch(Employee.class::isInstance)) {
+            @SuppressWarnings("unchecked")
+            List<Employee> employees = (List<Employee>) list;
+            return encodeSnapshot(EmployeeSnapshot.of(employees));
+        }
+        return null;
+    }
+
+    public static Object decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte type = buffer.get();
+        return switch (type) {
+            case EMPLOYEE -> decodeEmployee(buffer);
+            case EMPLOYEE_LIST -> decodeSnapshot(buffer);
+            default -> throw new IllegalArgumentException("Unknown cached value type " + type);
+        };
+    }
+
+    private static byte[] encodeEmployee(Employee employee) {
+        UUID id = employee.getId();
+        byte[] title = CompactStrings.encode(employee.getTitle());
+        byte[] name = CompactStrings.encode(employee.getName());
+        byte[] email = CompactStrings.encode(employee.getEmail());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + length(title) + ROW_FIXED_BYTES + length(name) + length(email));
+        buffer.put(EMPLOYEE);
+        putBytes(buffer, title);
+        putRow(
+                buffer,
+                id != null ? id.getMostSignificantBits() : 0,
+                id != null ? id.getLeastSignificantBits() : 0,
+                employee.getSalary() != null ? employee.getSalary() : EmployeeSnapshot.NO_VALUE,
+                employee.getAge() != null ? employee.getAge() : EmployeeSnapshot.NO_VALUE,
+                title != null ? 0 : -1,
+                name,
+                email);
+        return buffer.array();
+    }
+
+    private static Employee decodeEmployee(ByteBuffer buffer) {
+        String title = CompactStrings.decode(getBytes(buffer));
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(1);
+        readRow(buffer, builder, title != null ? new String[] {title} : new String[0]);
+        return builder.build().get(0);
+    }
+
+    private static byte[] encodeSnapshot(EmployeeSnapshot snapshot) {
+        Map<String, Integer> codes = new HashMap<>();
+        List<byte[]> titles = new ArrayList<>();
+        int[] titleCodes = new int[snapshot.size()];
+        int size = 1 + 4 + 4;
+        for (int i = 0; i < snapshot.size(); i++) {
+            String title = snapshot.title(i);
+            if (title == null) {
+                titleCodes[i] = -1;
+            } else {
+                Integer code = codes.get(title);
+                if (code == null) {
+                    code = titles.size();
+                    codes.put(title, code);
+                    titles.add(CompactStrings.encode(title));
+                    size += 4 + titles.get(code).length;
+                }
+                titleCodes[i] = code;
+            }
+            size += ROW_FIXED_BYTES + length(snapshot.nameBytes(i)) + length(snapshot.emailBytes(i));
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(EMPLOYEE_LIST);
+        buffer.putInt(titles.size());
+        titles.forEach(title -> putBytes(buffer, title));
+        buffer.putInt(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            putRow(
+                    buffer,
+                    snapshot.idMostSigBits(i),
+                    snapshot.idLeastSigBits(i),
+                    snapshot.salary(i),
+                    snapshot.age(i),
+                    titleCodes[i],
+                    snapshot.nameBytes(i),
+                    snapshot.emailBytes(i));
+        }
+        return buffer.array();
+    }
+
+    private static EmployeeSnapshot decodeSnapshot(ByteBuffer buffer) {
+        String[] titles = new String[buffer.getInt()];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = CompactStrings.decode(getBytes(buffer));
+        }
+        int count = buffer.getInt();
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(count);
+        for (int i = 0; i < count; i++) {
+            readRow(buffer, builder, titles);
+        }
+        return builder.build();
+    }
+
+    private static void putRow(
+            ByteBuffer buffer,
+            long idMostSigBits,
+            long idLeastSigBits,
+            int salary,
+            int age,
+            int titleCode,
+            byte[] name,
+            byte[] email) {
+        buffer.putLong(idMostSigBits);
+        buffer.putLong(idLeastSigBits);
+        buffer.putInt(salary);
+        buffer.putInt(age);
+        buffer.putInt(titleCode);
+        putBytes(buffer, name);
+        putBytes(buffer, email);
+    }
+
+    private static void readRow(ByteBuffer buffer, EmployeeSnapshot.Builder builder, String[] titles) {
+        long idMostSigBits = buffer.getLong();
+        long idLeastSigBits = buffer.getLong();
+        int salary = buffer.getInt();
+        int age = buffer.getInt();
+        int titleCode = buffer.getInt();
+        byte[] name = getBytes(buffer);
+        byte[] email = getBytes(buffer);
+        builder.add(
+                idMostSigBits, idLeastSigBits, name, salary, age, titleCode < 0 ? null : titles[titleCode], email);
+    }
+
+    /** Payload length; the 4-byte length prefix is counted separately. */
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.exception.IdempotencyKeyReusedException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Results of writes sent with an {@code Idempotency-Key}, so a client retrying one gets the original result without
+ * another upstream write or cache eviction.
+ *
+ * <p>A key is remembered for {@code employee.api.idempotency.ttl}, up to {@code employee.api.idempotency.max-keys}
+ * keys, together with the request it came with; reusing it for a different request is rejected. A retry arriving while
+ * the first attempt is still running waits for it, and a failed attempt is forgotten so the client can try again.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(
+            @Value("${employee.api.idempotency.ttl:24h}") Duration ttl,
+            @Value("${employee.api.idempotency.max-keys:100000}") long maxKeys) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * The result of {@code action} for the first request with {@code key} in {@code scope}, running it only then.
+     *
+     * @throws IdempotencyKeyReusedException if {@code key} was first used for a request not equal to {@code request}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Object request, Supplier<T> action) {
+        String scopedKey = scope + " " + key;
+        Entry mine = new Entry(request, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(scopedKey, mine);
+        if (existing != null) {
+            if (!Objects.equals(existing.request(), request)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            log.debug("Replaying the result for idempotency key {}", key);
+            try {
+                return (T) existing.result().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            T result = action.get();
+            mine.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.asMap().remove(scopedKey, mine);
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result) {}
+}
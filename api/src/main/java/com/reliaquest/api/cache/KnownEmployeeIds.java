@@ -0,0 +1,226 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers "does this employee id exist, and what is it?" locally where it safely can, so single-employee lookups of
+ * records the last list fetch already returned, and of unknown ids from scanners and stale links, do not spend upstream
+ * quota.
+ *
+ * <ul>
+ *   <li>A Bloom filter of every id in the last list fetch. While it is younger than
+ *       {@code employee.api.known-ids.authority-ttl} an id it has never seen is definitely absent. Past that, employees
+ *       created elsewhere may be missing from it, so it is no longer trusted.
+ *   <li>A short-lived negative cache of ids the upstream answered 404 for, covering the time before the first list
+ *       fetch and the filter's false positives.
+ * </ul>
+ *
+ * Ids created through this service are added to the filter, carried into the next rebuild, and evicted from the
+ * negative cache, so a create is visible to the very next lookup.
+ *
+ * <p>The fetched list itself, indexed by id, answers per-id reads under the same authority TTL, but only while no
+ * create or delete went through this service since that fetch started: every local write bumps a version, and a list
+ * whose fetch began at an older version is never used for lookups. A list that was already in flight when an employee
+ * was created or deleted therefore cannot hide the write from per-id reads; they go upstream until the next fetch.
+ */
+@Component
+@Slf4j
+public class KnownEmployeeIds {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final Duration authorityTtl;
+    private final Cache<UUID, Boolean> missingIds;
+    private final Cache<UUID, Boolean> recentlyCreated;
+    private final AtomicLong writeVersion = new AtomicLong();
+
+    private volatile UuidBloomFilter filter;
+    // Ids the filter can still take at its false positive probability; guarded by this
+    private int filterRoom;
+    private volatile long builtAt;
+    private volatile FetchedList fetchedList;
+
+    public KnownEmployeeIds(
+            @Value("${employee.api.known-ids.authority-ttl:60s}") Duration authorityTtl,
+            @Value("${employee.api.known-ids.negative-ttl:30s}") Duration negativeTtl) {
+        this.authorityTtl = authorityTtl;
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(negativeTtl)
+                .build();
+        // Creates racing a rebuild would otherwise be lost from the new filter until the next one
+        this.recentlyCreated = Caffeine.newBuilder().expireAfterWrite(authorityTtl).build();
+    }
+
+    /**
+     * Version of the local writes so far; read it before starting a list fetch and pass it to {@link #rebuild}.
+     */
+    public long version() {
+        return writeVersion.get();
+    }
+
+    /**
+     * Replaces the filter and the id lookup with a full list fetch that started at {@code listVersion}.
+     */
+    public synchronized void rebuild(List<Employee> employees, long listVersion) {
+        long startedAt = System.currentTimeMillis();
+        int ids = employees.size() + (int) recentlyCreated.estimatedSize();
+        // Room for the ids later list fetches add through advance, before it has to be rebuilt
+        int capacity = ids + ids / 4 + 64;
+        UuidBloomFilter rebuilt = UuidBloomFilter.create(capacity, FALSE_POSITIVE_PROBABILITY);
+        if (employees instanceof EmployeeSnapshot snapshot) {
+            for (int i = 0; i < snapshot.size(); i++) {
+                UUID id = snapshot.id(i);
+                if (id != null) {
+                    rebuilt.put(id);
+                }
+            }
+        } else {
+            employees.stream().map(Employee::getId).filter(id -> id != null).forEach(rebuilt::put);
+        }
+        recentlyCreated.asMap().keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        filterRoom = capacity - ids;
+        builtAt = startedAt;
+        fetchedList = new FetchedList(EmployeeSnapshot.of(employees), listVersion, startedAt);
+        missingIds.invalidateAll();
+        log.debug("Rebuilt known employee id filter with {} ids", employees.size());
+    }
+
+    /**
+     * Moves the filter and the id lookup on to a list fetch that started at {@code listVersion} and found the previous
+     * list changed by {@code changes} into {@code employees}. Costs as much as the changes, not the list: the filter is
+     * only rebuilt once created ids outgrow the room it was sized with.
+     */
+    public synchronized void advance(EmployeeSnapshot employees, List<EmployeeChange> changes, long listVersion) {
+        long startedAt = System.currentTimeMillis();
+        UuidBloomFilter current = filter;
+        long created = changes.stream()
+                .filter(change -> change.getType() == EmployeeChange.Type.CREATED)
+                .count();
+        if (current == null || created > filterRoom) {
+            rebuild(employees, listVersion);
+            return;
+        }
+        record(current, changes);
+        builtAt = startedAt;
+        fetchedList = new FetchedList(employees, listVersion, startedAt);
+        log.debug("Advanced known employee id filter by {} changes", changes.size());
+    }
+
+    /**
+     * Takes in {@code changes} the upstream pushed, which turned {@code base} into {@code employees}. Unlike a local
+     * write this keeps the id lookup usable: if it was answering from {@code base} it answers from {@code employees}
+     * at the same version and for the rest of the same authority TTL.
+     */
+    public synchronized void applyPushed(
+            EmployeeSnapshot base, EmployeeSnapshot employees, List<EmployeeChange> changes) {
+        record(filter, changes);
+        FetchedList current = fetchedList;
+        if (current != null && current.employees() == base) {
+            fetchedList = new FetchedList(employees, current.version(), current.fetchedAt());
+        }
+    }
+
+    /**
+     * Whether {@code id} certainly does not exist upstream: it is not a UUID, the upstream recently said so, or a fresh
+     * filter has never seen it.
+     */
+    public boolean isDefinitelyAbsent(String id) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+        if (missingIds.getIfPresent(uuid) != null) {
+            return true;
+        }
+        UuidBloomFilter current = filter;
+        return current != null
+                && System.currentTimeMillis() - builtAt < authorityTtl.toMillis()
+                && !current.mightContain(uuid);
+    }
+
+    /**
+     * The employee with {@code id} from the last list fetch, if that list is fresh and no local write happened since it
+     * was requested; empty means "not known locally", not "absent".
+     */
+    public Optional<Employee> lookup(String id) {
+        FetchedList current = fetchedList;
+        if (current == null
+                || current.version() != writeVersion.get()
+                || System.currentTimeMillis() - current.fetchedAt() >= authorityTtl.toMillis()) {
+            return Optional.empty();
+        }
+        int row;
+        try {
+            row = current.employees().indexOf(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return row < 0 ? Optional.empty() : Optional.of(current.employees().get(row));
+    }
+
+    /**
+     * Forgets everything learned so far, for when the upstream data may have been replaced wholesale.
+     */
+    public synchronized void invalidate() {
+        writeVersion.incrementAndGet();
+        filter = null;
+        fetchedList = null;
+        missingIds.invalidateAll();
+    }
+
+    public void recordMissing(UUID id) {
+        missingIds.put(id, Boolean.TRUE);
+    }
+
+    public void recordDeleted(UUID id) {
+        writeVersion.incrementAndGet();
+        recordMissing(id);
+    }
+
+    public synchronized void recordCreated(UUID id) {
+        writeVersion.incrementAndGet();
+        recentlyCreated.put(id, Boolean.TRUE);
+        missingIds.invalidate(id);
+        UuidBloomFilter current = filter;
+        if (current != null) {
+            current.put(id);
+            filterRoom--;
+        }
+    }
+
+    // Past the filter's room the false positive rate creeps up until the next list fetch rebuilds it
+    private void record(UuidBloomFilter current, List<EmployeeChange> changes) {
+        for (EmployeeChange change : changes) {
+            if (change.getId() == null) {
+                continue;
+            }
+            if (change.getType() == EmployeeChange.Type.CREATED) {
+                if (current != null) {
+                    current.put(change.getId());
+                    filterRoom--;
+                }
+                missingIds.invalidate(change.getId());
+            } else {
+                missingIds.put(change.getId(), Boolean.TRUE);
+            }
+        }
+    }
+
+    private record FetchedList(EmployeeSnapshot employees, long version, long fetchedAt) {}
+}
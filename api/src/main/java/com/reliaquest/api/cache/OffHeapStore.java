@@ -0,0 +1,167 @@
+package com.reliaquest.api.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Byte store in direct {@link ByteBuffer} slabs outside the Java heap, used as the L2 tier of {@link TieredCache}.
+ *
+ * <p>Values are appended to the current slab; when the capacity is used up the oldest slab is dropped as a whole
+ * together with every entry in it (FIFO). Overwritten and expired entries stay in their slab until it is dropped, so
+ * there is no per-entry free list or compaction, and the only heap cost is the key index. A value larger than the slab
+ * size gets a slab of its own.
+ */
+public class OffHeapStore {
+
+    private final long capacityBytes;
+    private final int slabBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Object, Location> index = new HashMap<>();
+    private final Deque<Slab> slabs = new ArrayDeque<>();
+
+    private volatile long allocatedBytes;
+    private volatile long usedBytes;
+    private volatile long evictionCount;
+
+    public OffHeapStore(long capacityBytes, int slabBytes) {
+        this.capacityBytes = capacityBytes;
+        this.slabBytes = (int) Math.min(slabBytes, capacityBytes);
+    }
+
+    /**
+     * Stores {@code value} under {@code key} until {@code expiresAt} (epoch millis).
+     *
+     * @return {@code false} when the value is larger than the whole store
+     */
+    public boolean put(Object key, byte[] value, long expiresAt) {
+        if (value.length > capacityBytes) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            Slab slab = slabs.peekLast();
+            if (slab == null || slab.buffer.remaining() < value.length) {
+                slab = allocate(value.length);
+            }
+            int offset = slab.buffer.position();
+            slab.buffer.put(value);
+            slab.keys.add(key);
+            usedBytes += value.length;
+            Location previous = index.put(key, new Location(slab, offset, value.length, expiresAt));
+            if (previous != null) {
+                usedBytes -= previous.length();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the value stored under {@code key} back onto the heap, or returns {@code null} if it is absent or expired.
+     */
+    public byte[] get(Object key, long now) {
+        lock.readLock().lock();
+        try {
+            Location location = index.get(key);
+            if (location == null || location.expiresAt() <= now) {
+                return null;
+            }
+            byte[] value = new byte[location.length()];
+            location.slab().buffer.get(location.offset(), value);
+            return value;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void remove(Object key) {
+        lock.writeLock().lock();
+        try {
+            Location removed = index.remove(key);
+            if (removed != null) {
+                usedBytes -= removed.length();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            slabs.clear();
+            allocatedBytes = 0;
+            usedBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes held by live entries. */
+    public long usedBytes() {
+        return usedBytes;
+    }
+
+    /** Bytes of direct memory currently allocated to slabs. */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /** Entries dropped because their slab was reclaimed. */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    private Slab allocate(int minimumBytes) {
+        int size = Math.max(slabBytes, minimumBytes);
+        while (!slabs.isEmpty() && allocatedBytes + size > capacityBytes) {
+            reclaim(slabs.pollFirst());
+        }
+        Slab slab = new Slab(ByteBuffer.allocateDirect(size));
+        slabs.addLast(slab);
+        allocatedBytes += size;
+        return slab;
+    }
+
+    private void reclaim(Slab slab) {
+        allocatedBytes -= slab.buffer.capacity();
+        for (Object key : slab.keys) {
+            Location location = index.get(key);
+            if (location != null && location.slab() == slab) {
+                index.remove(key);
+                usedBytes -= location.length();
+                evictionCount++;
+            }
+        }
+    }
+
+    private static final class Slab {
+
+        private final ByteBuffer buffer;
+        private final List<Object> keys = new ArrayList<>();
+
+        Slab(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    private record Location(Slab slab, int offset, int length, long expiresAt) {}
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.util.Collection;
+
+/**
+ * Weighs cache entries by their approximate retained heap in bytes (64-bit JVM, compressed oops), so a cache bounded
+ * with {@code maximumWeight} is bounded by memory rather than by entry count. One {@code employees} entry is the whole
+ * list and weighs accordingly; one {@code employee-by-id} entry is a single record.
+ */
+public class RetainedSizeWeigher implements Weigher<Object, Object> {
+
+    /** Caffeine node, key and map slot overhead of any entry. */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final int EMPLOYEE_SHELL = 40;
+    private static final int UUID_BYTES = 32;
+    private static final int BOXED_INTEGER = 16;
+    private static final int STRING_SHELL = 24;
+    private static final int UNKNOWN_VALUE = 64;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + valueBytes(value));
+    }
+
+    static long valueBytes(Object value) {
+        if (value instanceof EmployeeSnapshot snapshot) {
+            return snapshot.estimatedRetainedBytes();
+        }
+        if (value instanceof Employee employee) {
+            return employeeBytes(employee);
+        }
+        if (value instanceof Collection<?> collection) {
+            long bytes = 16 + align(16 + 4L * collection.size());
+            for (Object element : collection) {
+                bytes += element instanceof Employee employee ? employeeBytes(employee) : UNKNOWN_VALUE;
+            }
+            return bytes;
+        }
+        if (value instanceof String string) {
+            return stringBytes(string);
+        }
+        return UNKNOWN_VALUE;
+    }
+
+    private static long employeeBytes(Employee employee) {
+        return EMPLOYEE_SHELL
+                + (employee.getId() != null ? UUID_BYTES : 0)
+                + (employee.getSalary() != null ? BOXED_INTEGER : 0)
+                + (employee.getAge() != null ? BOXED_INTEGER : 0)
+                + stringBytes(employee.getName())
+                + stringBytes(employee.getTitle())
+                + stringBytes(employee.getEmail());
+    }
+
+    private static long stringBytes(String value) {
+        // Compact strings: one byte per Latin-1 char; anything wider costs two
+        return value == null ? 0 : STRING_SHELL + align(16 + (long) value.length() * 2 - latin1Savings(value));
+    }
+
+    private static long latin1Savings(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return 0;
+            }
+        }
+        return value.length();
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,179 @@
+package com.reliaquest.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * Two-tier Spring {@link org.springframework.cache.Cache}: the on-heap Caffeine cache as L1 and an {@link OffHeapStore}
+ * as L2.
+ *
+ * <p>Writes go to both tiers, except {@link #putL1}; employee values are encoded with {@link EmployeeCodec} for L2 and
+ * anything the codec does not know stays L1-only. Reads that miss L1 fall back to L2 and promote the decoded value into
+ * L1, so entries L1 evicted for size come back without an upstream call. L2 expires entries after the same time-to-live
+ * as L1, counted from the original write; a promoted entry starts a fresh L1 lifetime.
+ *
+ * <p>L1 is still reported by the regular Caffeine cache metrics. L2 adds {@code cache.tier.gets} (tagged with tier and
+ * result), {@code cache.tier.size}, {@code cache.tier.bytes} and {@code cache.tier.evictions}.
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final CaffeineCache l1;
+    private final OffHeapStore l2;
+    private final long l2TimeToLiveMillis;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TieredCache(CaffeineCache l1, OffHeapStore l2, Duration l2TimeToLive, MeterRegistry meterRegistry) {
+        super(l1.isAllowNullValues());
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l2TimeToLiveMillis = l2TimeToLive.toMillis();
+
+        Tags tags = Tags.of("cache", l1.getName());
+        this.l1Hits = tierGets(meterRegistry, tags, "l1", "hit");
+        this.l1Misses = tierGets(meterRegistry, tags, "l1", "miss");
+        this.l2Hits = tierGets(meterRegistry, tags, "l2", "hit");
+        this.l2Misses = tierGets(meterRegistry, tags, "l2", "miss");
+        Gauge.builder("cache.tier.size", l2, OffHeapStore::size)
+                .description("Entries held off-heap")
+                .tags(tags.and("tier", "l2"))
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.bytes", l2, OffHeapStore::usedBytes)
+                .description("Off-heap bytes held by live entries")
+                .tags(tags.and("tier", "l2").and("state", "used"))
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.bytes", l2, OffHeapStore::allocatedBytes)
+                .description("Off-heap bytes allocated to slabs")
+                .tags(tags.and("tier", "l2").and("state", "allocated"))
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.tier.evictions", l2, OffHeapStore::evictionCount)
+                .description("Off-heap entries dropped with their slab")
+                .tags(tags.and("tier", "l2"))
+                .register(meterRegistry);
+    }
+
+    public CaffeineCache getL1() {
+        return l1;
+    }
+
+    @Override
+    public String getName() {
+        return l1.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = l1.getNativeCache().getIfPresent(key);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+        Object promoted = lookupL2(key);
+        if (promoted != null) {
+            l1.getNativeCache().put(key, promoted);
+        }
+        return promoted;
+    }
+
+    /**
+     * The value for {@code key} without recording a hit or miss in either tier, for callers that only check whether an
+     * entry is already cached and would otherwise skew the hit ratio. An L2 entry is promoted as on a regular read.
+     */
+    public ValueWrapper peek(Object key) {
+        Object value = l1.getNativeCache().policy().getIfPresentQuietly(key);
+        if (value == null) {
+            byte[] bytes = l2.get(key, System.currentTimeMillis());
+            value = bytes != null ? EmployeeCodec.decode(bytes) : null;
+            if (value != null) {
+                l1.getNativeCache().put(key, value);
+            }
+        }
+        return toValueWrapper(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(l1.getNativeCache().get(key, k -> {
+            Object promoted = lookupL2(k);
+            if (promoted != null) {
+                return promoted;
+            }
+            try {
+                Object value = toStoreValue(valueLoader.call());
+                writeL2(k, value);
+                return value;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        l1.getNativeCache().put(key, storeValue);
+        writeL2(key, storeValue);
+    }
+
+    /**
+     * Replaces the L1 entry and drops the L2 copy instead of encoding the value again, for frequent small updates to a
+     * large value; L2 is written again when the value is next loaded.
+     */
+    public void putL1(Object key, Object value) {
+        l1.getNativeCache().put(key, toStoreValue(value));
+        l2.remove(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l1.evict(key);
+        l2.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        l1.clear();
+        l2.clear();
+    }
+
+    private Object lookupL2(Object key) {
+        byte[] bytes = l2.get(key, System.currentTimeMillis());
+        if (bytes == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        return EmployeeCodec.decode(bytes);
+    }
+
+    private void writeL2(Object key, Object storeValue) {
+        byte[] bytes = EmployeeCodec.encode(storeValue);
+        if (bytes == null || !l2.put(key, bytes, System.currentTimeMillis() + l2TimeToLiveMillis)) {
+            // Never leave an older value behind in L2 for a key L1 now holds something else for
+            l2.remove(key);
+        }
+    }
+
+    private static Counter tierGets(MeterRegistry meterRegistry, Tags tags, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Cache lookups per tier")
+                .tags(tags.and("tier", tier).and("result", result))
+                .register(meterRegistry);
+    }
+}
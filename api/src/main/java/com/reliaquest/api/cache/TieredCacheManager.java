@@ -0,0 +1,57 @@
+package com.reliaquest.api.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Decorates a Caffeine-backed {@link CacheManager} so the configured caches get an off-heap L2 tier; every other cache
+ * is returned as is. Each tiered cache has its own {@link OffHeapStore} of {@code capacityBytes}.
+ */
+public class TieredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> l2TimeToLive;
+    private final long capacityBytes;
+    private final int slabBytes;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TieredCache> tieredCaches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(
+            CacheManager delegate,
+            Map<String, Duration> l2TimeToLive,
+            long capacityBytes,
+            int slabBytes,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.l2TimeToLive = l2TimeToLive;
+        this.capacityBytes = capacityBytes;
+        this.slabBytes = slabBytes;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = delegate.getCache(name);
+        if (!(cache instanceof CaffeineCache caffeineCache) || !l2TimeToLive.containsKey(name)) {
+            return cache;
+        }
+        return tieredCaches.computeIfAbsent(
+                name,
+                n -> new TieredCache(
+                        caffeineCache,
+                        new OffHeapStore(capacityBytes, slabBytes),
+                        l2TimeToLive.get(n),
+                        meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,243 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.KnownEmployeeIds;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.service.EmployeeService;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the employee caches in step with writes made by other clients, from the upstream's server-sent event stream
+ * ({@code GET /api/v1/employee/events}) instead of shorter TTLs or more polling.
+ *
+ * <ul>
+ *   <li>{@code change}: a created employee is put into {@code employee-by-id} and a deleted one evicted, and the
+ *       change is applied to the cached {@code employees} list and the id bookkeeping in {@link KnownEmployeeIds}
+ *       through {@link EmployeeService#applyChange}. Only when it does not follow on from that list, after a gap, is
+ *       the list invalidated so the next read refreshes it through the change log, and the id recorded as a write.
+ *   <li>{@code reset}: the upstream could not resume our position, so every employee cache is dropped.
+ * </ul>
+ *
+ * The stream is read on its own daemon thread. On disconnect it reconnects with exponential backoff and jitter, sending
+ * the last event id so the upstream replays what was missed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.api.events.enabled", havingValue = "true")
+public class EmployeeEventSubscriber implements SmartLifecycle {
+
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final KnownEmployeeIds knownEmployeeIds;
+    private final EmployeeService employeeService;
+    private final URI eventsUri;
+    private final long maxBackoffMillis;
+    private final HttpClient httpClient =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(3)).build();
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile Stream<String> currentStream;
+    private volatile String lastEventId;
+
+    // Event being assembled from the stream; only touched by the worker thread
+    private String eventName;
+    private String eventId;
+    private final StringBuilder eventData = new StringBuilder();
+
+    public EmployeeEventSubscriber(
+            ObjectMapper objectMapper,
+            CacheManager cacheManager,
+            KnownEmployeeIds knownEmployeeIds,
+            EmployeeService employeeService,
+            @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}") String baseUrl,
+            @Value("${employee.api.events.max-backoff:30s}") Duration maxBackoff) {
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.knownEmployeeIds = knownEmployeeIds;
+        this.employeeService = employeeService;
+        this.eventsUri = URI.create(baseUrl + "/events");
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "employee-events");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Stream<String> stream = currentStream;
+        if (stream != null) {
+            stream.close();
+        }
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    String getLastEventId() {
+        return lastEventId;
+    }
+
+    private void run() {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (running) {
+            try {
+                HttpRequest.Builder request =
+                        HttpRequest.newBuilder(eventsUri).header("Accept", "text/event-stream");
+                if (lastEventId != null) {
+                    request.header("Last-Event-ID", lastEventId);
+                }
+                HttpResponse<Stream<String>> response =
+                        httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+                try (Stream<String> lines = response.body()) {
+                    if (response.statusCode() != 200) {
+                        throw new IOException("Unexpected status " + response.statusCode());
+                    }
+                    log.info("Subscribed to employee events at {} from {}", eventsUri, lastEventId);
+                    backoffMillis = INITIAL_BACKOFF_MILLIS;
+                    currentStream = lines;
+                    lines.forEach(this::onLine);
+                }
+                log.info("Employee event stream ended");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Employee event stream failed: {}", e.getMessage());
+            } finally {
+                currentStream = null;
+                resetEvent();
+            }
+            try {
+                Thread.sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+        }
+    }
+
+    /**
+     * Feeds one line of the {@code text/event-stream} body; a blank line dispatches the event read so far.
+     */
+    void onLine(String line) {
+        if (line.isEmpty()) {
+            dispatch();
+            return;
+        }
+        if (line.startsWith(":")) {
+            return; // comment, e.g. a heartbeat
+        }
+        int colon = line.indexOf(':');
+        String field = colon < 0 ? line : line.substring(0, colon);
+        String value = colon < 0 ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+        switch (field) {
+            case "event" -> eventName = value;
+            case "id" -> eventId = value;
+            case "data" -> {
+                if (!eventData.isEmpty()) {
+                    eventData.append('\n');
+                }
+                eventData.append(value);
+            }
+            default -> {}
+        }
+    }
+
+    private void dispatch() {
+        try {
+            if ("change".equals(eventName) && !eventData.isEmpty()) {
+                apply(epochOf(eventId), objectMapper.readValue(eventData.toString(), EmployeeChange.class));
+            } else if ("reset".equals(eventName)) {
+                log.info("Upstream cannot resume employee events from {}, dropping cached employees", lastEventId);
+                clear("employees");
+                clear("employee-by-id");
+                knownEmployeeIds.invalidate();
+            }
+            if (eventId != null) {
+                lastEventId = eventId;
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable employee event {}: {}", eventId, e.getMessage());
+        } finally {
+            resetEvent();
+        }
+    }
+
+    private void apply(String epoch, EmployeeChange change) {
+        if (change.getId() == null) {
+            return;
+        }
+        boolean created = change.getType() == EmployeeChange.Type.CREATED && change.getEmployee() != null;
+        boolean deleted = change.getType() == EmployeeChange.Type.DELETED;
+        Cache employeeById = cacheManager.getCache("employee-by-id");
+        if (employeeById != null && created) {
+            employeeById.put(change.getId().toString(), change.getEmployee());
+        } else if (employeeById != null && deleted) {
+            employeeById.evict(change.getId().toString());
+        }
+        if (!employeeService.applyChange(epoch, change)) {
+            log.debug("Employee change {} does not follow on from the cached list, dropping it", change.getVersion());
+            clear("employees");
+            // Nothing carried the change into the known ids, so record it like a local write
+            if (created) {
+                knownEmployeeIds.recordCreated(change.getId());
+            } else if (deleted) {
+                knownEmployeeIds.recordDeleted(change.getId());
+            }
+        }
+        log.debug("Applied upstream employee change {}", change.getVersion());
+    }
+
+    /** The epoch part of an {@code <epoch>:<version>} event id, or null. */
+    private static String epochOf(String eventId) {
+        int colon = eventId != null ? eventId.lastIndexOf(':') : -1;
+        return colon < 0 ? null : eventId.substring(0, colon);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void resetEvent() {
+        eventName = null;
+        eventId = null;
+        eventData.setLength(0);
+    }
+}
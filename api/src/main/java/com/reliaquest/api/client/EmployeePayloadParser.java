@@ -0,0 +1,152 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.CompactStrings;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hand-written streaming reader for the upstream {@code GET /api/v1/employee} payload.
+ *
+ * <p>Generic binding of {@code ApiResponse<List<Employee>>} resolves the type, walks bean properties reflectively and
+ * materialises the envelope before we can use the list. Full-list refreshes are the largest CPU item in our profiles, so
+ * this reader walks the token stream once and writes each employee's fields straight into the {@link EmployeeSnapshot}
+ * that gets cached, without creating {@code Employee}, {@code UUID} or name/email {@code String} objects on the way.
+ *
+ * <p>The same walk reads the binary Smile encoding of the payload, which the upstream sends when asked for
+ * {@link #SMILE}: smaller on the wire, with property names sent once and numbers in binary.
+ */
+@Component
+public class EmployeePayloadParser {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final JsonFactory jsonFactory;
+    private final JsonFactory smileFactory = new SmileFactory();
+
+    public EmployeePayloadParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Reads the {@code data} array of a JSON upstream list response.
+     *
+     * @return the employees, or {@code null} when the response carries no {@code data}
+     */
+    public EmployeeSnapshot readEmployeeList(InputStream body) throws IOException {
+        return readEmployeeList(jsonFactory, body);
+    }
+
+    /**
+     * Reads an upstream list response in the format its {@code Content-Type} names: Smile for {@link #SMILE}, JSON
+     * otherwise.
+     */
+    public EmployeeSnapshot readEmployeeList(InputStream body, MediaType contentType) throws IOException {
+        return readEmployeeList(SMILE.isCompatibleWith(contentType) ? smileFactory : jsonFactory, body);
+    }
+
+    private EmployeeSnapshot readEmployeeList(JsonFactory factory, InputStream body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected employee list response object");
+            }
+            EmployeeSnapshot employees = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(0);
+                    JsonToken token;
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token != JsonToken.START_OBJECT) {
+                            throw new JsonParseException(parser, "Expected employee object in data, got " + token);
+                        }
+                        readEmployee(parser, builder);
+                    }
+                    employees = builder.build();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return employees;
+        }
+    }
+
+    private void readEmployee(JsonParser parser, EmployeeSnapshot.Builder builder) throws IOException {
+        long idMostSigBits = 0;
+        long idLeastSigBits = 0;
+        byte[] name = null;
+        int salary = EmployeeSnapshot.NO_VALUE;
+        int age = EmployeeSnapshot.NO_VALUE;
+        String title = null;
+        byte[] email = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> {
+                    char[] chars = parser.getTextCharacters();
+                    int offset = parser.getTextOffset();
+                    if (isCanonicalUuid(chars, offset, parser.getTextLength())) {
+                        idMostSigBits = hex(chars, offset, 8) << 32
+                                | hex(chars, offset + 9, 4) << 16
+                                | hex(chars, offset + 14, 4);
+                        idLeastSigBits = hex(chars, offset + 19, 4) << 48 | hex(chars, offset + 24, 12);
+                    } else {
+                        UUID id = UUID.fromString(parser.getText());
+                        idMostSigBits = id.getMostSignificantBits();
+                        idLeastSigBits = id.getLeastSignificantBits();
+                    }
+                }
+                case "employee_name" -> name = compactText(parser);
+                case "employee_salary" -> salary = parser.getValueAsInt();
+                case "employee_age" -> age = parser.getValueAsInt();
+                case "employee_title" -> title = parser.getText();
+                case "employee_email" -> email = compactText(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        builder.add(idMostSigBits, idLeastSigBits, name, salary, age, title, email);
+    }
+
+    private static byte[] compactText(JsonParser parser) throws IOException {
+        return CompactStrings.encode(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    /**
+     * Whether the text is a {@code 8-4-4-4-12} hex UUID that {@link #hex} can pack; anything else goes through
+     * {@link UUID#fromString} for its lenient parsing and error message.
+     */
+    private static boolean isCanonicalUuid(char[] chars, int offset, int length) {
+        if (length != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = chars[offset + i];
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hex(char[] chars, int offset, int length) {
+        long bits = 0;
+        for (int i = offset; i < offset + length; i++) {
+            bits = (bits << 4) | Character.digit(chars[i], 16);
+        }
+        return bits;
+    }
+}
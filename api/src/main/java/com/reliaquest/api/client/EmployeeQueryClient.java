@@ -0,0 +1,92 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.ExternalServiceException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Pushes name searches down to the upstream list endpoint's query parameters, and salary questions to its aggregate
+ * endpoints, so only the answer crosses the wire instead of the whole list.
+ *
+ * <p>Opt-in with {@code employee.api.query-pushdown.enabled}. Search results are checked again locally, so an upstream
+ * that ignores the parameters and returns everything still yields the right answer, just without the savings.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeQueryClient {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<Employee>>> LIST_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Integer>> SALARY_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<String>>> NAMES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+
+    @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}")
+    private String baseUrl;
+
+    @Value("${employee.api.query-pushdown.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<Employee> searchByName(String searchString) {
+        String fragment = searchString.toLowerCase();
+        return query(UriComponentsBuilder.fromHttpUrl(baseUrl).queryParam("nameContains", searchString)).stream()
+                .filter(emp -> emp.getName() != null && emp.getName().toLowerCase().contains(fragment))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Highest salary from the upstream's incrementally maintained aggregate; 0 when no employee has a salary.
+     */
+    public Integer highestSalary() {
+        Integer highest =
+                query(UriComponentsBuilder.fromHttpUrl(baseUrl).path("/aggregates/highest-salary"), SALARY_RESPONSE);
+        return highest != null ? highest : 0;
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        List<String> names = query(
+                UriComponentsBuilder.fromHttpUrl(baseUrl)
+                        .path("/aggregates/top-earners")
+                        .queryParam("limit", limit),
+                NAMES_RESPONSE);
+        return names != null ? names : List.of();
+    }
+
+    private List<Employee> query(UriComponentsBuilder uriBuilder) {
+        List<Employee> employees = query(uriBuilder, LIST_RESPONSE);
+        return employees != null ? employees : List.of();
+    }
+
+    private <T> T query(UriComponentsBuilder uriBuilder, ParameterizedTypeReference<ApiResponse<T>> responseType) {
+        URI uri = uriBuilder.encode().build().toUri();
+        try {
+            log.debug("Querying employees at {}", uri);
+            ResponseEntity<ApiResponse<T>> response = restTemplate.exchange(uri, HttpMethod.GET, null, responseType);
+            return response.getBody() != null ? response.getBody().getData() : null;
+        } catch (RestClientException e) {
+            log.error("Error querying employees at {}", uri, e);
+            throw new ExternalServiceException("Mock Employee API", "Failed to query employees", e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Upstream connection pool that records how long requests wait for a connection and how many connections each route
+ * actually keeps busy.
+ *
+ * <p>Lease waits are exported as {@code httpcomponents.httpclient.pool.lease.wait}, tagged with the outcome, so pool
+ * exhaustion shows up as a growing wait distribution before it turns into {@code ConnectionRequestTimeout} errors. Busy
+ * time per route feeds {@link #resizeRoutes}, which applies Little's law: the time-averaged number of leased connections
+ * over a window equals arrival rate times mean hold time, which is the pool size the route needs.
+ */
+@Slf4j
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private static final String LEASE_WAIT = "httpcomponents.httpclient.pool.lease.wait";
+
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Timer acquiredTimer;
+    private final Timer timedOutTimer;
+    private final Map<ConnectionEndpoint, HttpRoute> leasedRoutes = new ConcurrentHashMap<>();
+    private final Map<HttpRoute, RouteUsage> routeUsage = new ConcurrentHashMap<>();
+
+    public InstrumentedConnectionManager(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    InstrumentedConnectionManager(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.acquiredTimer = leaseWaitTimer("acquired");
+        this.timedOutTimer = leaseWaitTimer("timeout");
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = nanoClock.getAsLong();
+                try {
+                    ConnectionEndpoint endpoint = delegate.get(timeout);
+                    long leasedAt = nanoClock.getAsLong();
+                    acquiredTimer.record(leasedAt - start, TimeUnit.NANOSECONDS);
+                    leasedRoutes.put(endpoint, route);
+                    usage(route).leased(leasedAt);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    timedOutTimer.record(nanoClock.getAsLong() - start, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object state, TimeValue keepAlive) {
+        HttpRoute route = leasedRoutes.remove(endpoint);
+        if (route != null) {
+            usage(route).released(nanoClock.getAsLong());
+        }
+        super.release(endpoint, state, keepAlive);
+    }
+
+    /**
+     * Re-sizes every route that has seen traffic to {@code headroom} times its busy connections since the last call,
+     * plus any requests queued for a connection right now, within {@code [minPerRoute, maxPerRoute]}. Limits grow
+     * immediately but shrink by at most half the difference per call, so a quiet window does not strand the next burst.
+     */
+    public void resizeRoutes(int minPerRoute, int maxPerRoute, double headroom) {
+        long now = nanoClock.getAsLong();
+        routeUsage.forEach((route, usage) -> {
+            PoolStats stats = getStats(route);
+            double concurrency = Math.max(usage.drainConcurrency(now), stats.getLeased());
+            int target = (int) Math.ceil(concurrency * headroom) + stats.getPending();
+            target = Math.max(minPerRoute, Math.min(maxPerRoute, target));
+
+            int current = getMaxPerRoute(route);
+            int next = target >= current ? target : current - (current - target + 1) / 2;
+            if (next != current) {
+                log.debug(
+                        "Resizing connection pool for {} from {} to {} (busy {}, pending {})",
+                        route.getTargetHost(),
+                        current,
+                        next,
+                        String.format("%.2f", concurrency),
+                        stats.getPending());
+                setMaxPerRoute(route, next);
+            }
+        });
+    }
+
+    private Timer leaseWaitTimer(String outcome) {
+        return Timer.builder(LEASE_WAIT)
+                .description("Time spent waiting to lease a connection from the upstream pool")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private RouteUsage usage(HttpRoute route) {
+        return routeUsage.computeIfAbsent(route, r -> {
+            Gauge.builder("httpcomponents.httpclient.pool.route.max", this, manager -> manager.getMaxPerRoute(r))
+                    .description("Current connection limit for the route")
+                    .tag("route", r.getTargetHost().toURI())
+                    .register(meterRegistry);
+            return new RouteUsage(nanoClock.getAsLong());
+        });
+    }
+
+    /**
+     * Integral of leased connections over time for one route, i.e. busy connection-nanoseconds since the window began.
+     */
+    private static final class RouteUsage {
+
+        private int leased;
+        private long lastChange;
+        private long windowStart;
+        private long busyNanos;
+
+        RouteUsage(long now) {
+            this.lastChange = now;
+            this.windowStart = now;
+        }
+
+        synchronized void leased(long now) {
+            advance(now);
+            leased++;
+        }
+
+        synchronized void released(long now) {
+            advance(now);
+            leased = Math.max(0, leased - 1);
+        }
+
+        /** Average number of leased connections since the previous call, which then starts a new window. */
+        synchronized double drainConcurrency(long now) {
+            advance(now);
+            long elapsed = now - windowStart;
+            double concurrency = elapsed > 0 ? (double) busyNanos / elapsed : leased;
+            busyNanos = 0;
+            windowStart = now;
+            return concurrency;
+        }
+
+        private void advance(long now) {
+            busyNanos += leased * (now - lastChange);
+            lastChange = now;
+        }
+    }
+}
@@ -1,42 +1,86 @@
 package com.reliaquest.api.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.cache.RetainedSizeWeigher;
+import com.reliaquest.api.cache.TieredCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration EMPLOYEES_TTL = Duration.ofMinutes(1);
+    private static final Duration EMPLOYEE_BY_ID_TTL = Duration.ofMinutes(5);
+
+    // Memory budgets per cache as a percentage of the maximum heap, enforced on estimated retained bytes
+    @Value("${employee.api.cache.budget.employees-heap-percent:10}")
+    private double employeesHeapPercent;
+
+    @Value("${employee.api.cache.budget.employee-by-id-heap-percent:2}")
+    private double employeeByIdHeapPercent;
+
+    @Value("${employee.api.cache.budget.default-heap-percent:1}")
+    private double defaultHeapPercent;
+
+    @Value("${employee.api.cache.l2.enabled:true}")
+    private boolean l2Enabled;
+
+    @Value("${employee.api.cache.l2.capacity:64MB}")
+    private DataSize l2Capacity;
+
+    @Value("${employee.api.cache.l2.slab-size:4MB}")
+    private DataSize l2SlabSize;
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(caffeineCacheBuilder());
         cacheManager.registerCustomCache(
                 "employees",
                 Caffeine.newBuilder()
-                        .maximumSize(100)
-                        .expireAfterWrite(Duration.ofMinutes(1))
+                        .maximumWeight(heapBudget(employeesHeapPercent))
+                        .weigher(new RetainedSizeWeigher())
+                        .expireAfterWrite(EMPLOYEES_TTL)
                         .recordStats()
                         .build());
         cacheManager.registerCustomCache(
                 "employee-by-id",
                 Caffeine.newBuilder()
-                        .maximumSize(500)
-                        .expireAfterWrite(Duration.ofMinutes(5))
+                        .maximumWeight(heapBudget(employeeByIdHeapPercent))
+                        .weigher(new RetainedSizeWeigher())
+                        .expireAfterWrite(EMPLOYEE_BY_ID_TTL)
                         .recordStats()
                         .build());
-        return cacheManager;
+        if (!l2Enabled) {
+            return cacheManager;
+        }
+        // Off-heap L2 behind the employee caches; L1 stays the Caffeine caches above
+        return new TieredCacheManager(
+                cacheManager,
+                Map.of("employees", EMPLOYEES_TTL, "employee-by-id", EMPLOYEE_BY_ID_TTL),
+                l2Capacity.toBytes(),
+                (int) l2SlabSize.toBytes(),
+                meterRegistry);
     }
 
     private Caffeine<Object, Object> caffeineCacheBuilder() {
         return Caffeine.newBuilder()
-                .maximumSize(1000)
+                .maximumWeight(heapBudget(defaultHeapPercent))
+                .weigher(new RetainedSizeWeigher())
                 .expireAfterWrite(Duration.ofMinutes(10))
                 .recordStats();
     }
+
+    private static long heapBudget(double heapPercent) {
+        return (long) (Runtime.getRuntime().maxMemory() * heapPercent / 100);
+    }
 }
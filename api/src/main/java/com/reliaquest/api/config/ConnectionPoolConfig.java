@@ -0,0 +1,40 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.client.InstrumentedConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Adaptive per-route sizing of the upstream connection pool. Instead of every api replica holding a fixed 20
+ * connections to the upstream, each route is periodically re-sized from the concurrency it actually used.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "employee.api.pool.adaptive.enabled", havingValue = "true")
+public class ConnectionPoolConfig {
+
+    private final InstrumentedConnectionManager connectionManager;
+
+    @Value("${employee.api.pool.adaptive.min-per-route:2}")
+    private int minPerRoute;
+
+    @Value("${employee.api.pool.adaptive.max-per-route:100}")
+    private int maxPerRoute;
+
+    @Value("${employee.api.pool.adaptive.headroom:1.5}")
+    private double headroom;
+
+    public ConnectionPoolConfig(InstrumentedConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Scheduled(
+            initialDelayString = "${employee.api.pool.adaptive.interval-ms:10000}",
+            fixedDelayString = "${employee.api.pool.adaptive.interval-ms:10000}")
+    public void resizeConnectionPool() {
+        connectionManager.resizeRoutes(minPerRoute, maxPerRoute, headroom);
+    }
+}
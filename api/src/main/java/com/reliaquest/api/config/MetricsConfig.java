@@ -1,12 +1,18 @@
 package com.reliaquest.api.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.reliaquest.api.cache.TieredCache;
+import com.reliaquest.api.client.InstrumentedConnectionManager;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
 import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
@@ -34,25 +40,51 @@ public class MetricsConfig {
 
     @Bean
     public CaffeineCacheMetrics employeesCacheMetrics(CacheManager cacheManager, MeterRegistry meterRegistry) {
-        var cache = cacheManager.getCache("employees");
-        if (cache instanceof CaffeineCache) {
-            CaffeineCacheMetrics metrics =
-                    new CaffeineCacheMetrics(((CaffeineCache) cache).getNativeCache(), "employees", Tags.empty());
-            metrics.bindTo(meterRegistry);
-            return metrics;
-        }
-        return null;
+        return bindCaffeineCache(cacheManager, "employees", meterRegistry);
     }
 
     @Bean
     public CaffeineCacheMetrics employeeByIdCacheMetrics(CacheManager cacheManager, MeterRegistry meterRegistry) {
-        var cache = cacheManager.getCache("employee-by-id");
-        if (cache instanceof CaffeineCache) {
-            CaffeineCacheMetrics metrics =
-                    new CaffeineCacheMetrics(((CaffeineCache) cache).getNativeCache(), "employee-by-id", Tags.empty());
-            metrics.bindTo(meterRegistry);
-            return metrics;
+        return bindCaffeineCache(cacheManager, "employee-by-id", meterRegistry);
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManagerMetricsBinder connectionPoolMetrics(
+            InstrumentedConnectionManager connectionManager, MeterRegistry meterRegistry) {
+        // Leased, pending and available connections plus pool limits, tagged httpclient=employee-service
+        PoolingHttpClientConnectionManagerMetricsBinder metrics =
+                new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "employee-service");
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+
+    private static CaffeineCacheMetrics bindCaffeineCache(
+            CacheManager cacheManager, String name, MeterRegistry meterRegistry) {
+        var cache = cacheManager.getCache(name);
+        if (cache instanceof TieredCache tiered) {
+            // Caffeine metrics describe the on-heap tier; the off-heap tier reports its own cache.tier.* meters
+            cache = tiered.getL1();
+        }
+        if (!(cache instanceof CaffeineCache)) {
+            return null;
         }
-        return null;
+        Cache<Object, Object> nativeCache = ((CaffeineCache) cache).getNativeCache();
+        CaffeineCacheMetrics metrics = new CaffeineCacheMetrics(nativeCache, name, Tags.empty());
+        metrics.bindTo(meterRegistry);
+
+        // cache.size counts entries; with byte-weighted bounds the weighted size is what is actually limited
+        nativeCache.policy().eviction().ifPresent(eviction -> {
+            Gauge.builder("cache.weighted.size", eviction, e -> e.weightedSize().orElse(0))
+                    .description("Estimated retained bytes of the cache entries")
+                    .tag("cache", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("cache.max.weight", eviction, Policy.Eviction::getMaximum)
+                    .description("Memory budget of the cache")
+                    .tag("cache", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        });
+        return metrics;
     }
 }
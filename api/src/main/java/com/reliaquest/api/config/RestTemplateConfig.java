@@ -1,34 +1,59 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${employee.api.pool.max-total:100}")
+    private int maxTotal;
+
+    @Value("${employee.api.pool.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${employee.api.client.http2.enabled:false}")
+    private boolean http2Enabled;
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public InstrumentedConnectionManager connectionManager(MeterRegistry meterRegistry) {
         // Configure connection pooling
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        connectionManager.setMaxTotal(100); // Max total connections
-        connectionManager.setDefaultMaxPerRoute(20); // Max connections per route
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(meterRegistry);
+        connectionManager.setMaxTotal(maxTotal); // Max total connections
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute); // Initial max connections per route
 
         // Configure socket timeouts
         connectionManager.setDefaultSocketConfig(SocketConfig.custom()
                 .setSoTimeout(Timeout.of(5, TimeUnit.SECONDS))
                 .build());
+        return connectionManager;
+    }
 
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, InstrumentedConnectionManager connectionManager) {
+        ClientHttpRequestFactory factory =
+                http2Enabled ? http2RequestFactory() : pooledRequestFactory(connectionManager);
+        return builder.requestFactory(() -> factory).build();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(InstrumentedConnectionManager connectionManager) {
         // Configure request timeouts
         RequestConfig requestConfig = RequestConfig.custom()
                 .setConnectionRequestTimeout(Timeout.of(2, TimeUnit.SECONDS))
@@ -45,8 +70,21 @@ public class RestTemplateConfig {
                 .setConnectionManagerShared(true)
                 .build();
 
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
 
-        return builder.requestFactory(() -> factory).build();
+    /**
+     * JDK client speaking HTTP/2 over cleartext (h2c). The first request upgrades the connection and every later call
+     * to the upstream is multiplexed as a stream on it, so concurrent requests share one connection instead of leasing
+     * from the HTTP/1.1 pool. Falls back to HTTP/1.1 if the upstream declines the upgrade.
+     */
+    private ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofSeconds(5));
+        return factory;
     }
 }
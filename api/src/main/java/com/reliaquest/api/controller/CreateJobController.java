@@ -0,0 +1,104 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.IdempotencyStore;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateJob;
+import com.reliaquest.api.model.ErrorResponse;
+import com.reliaquest.api.service.CreateJobQueue;
+import com.reliaquest.api.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Asynchronous employee creation: a create is queued and answered with a job to poll, and applied upstream as
+ * capacity allows. Enabled with {@code employee.api.write-behind.enabled}.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "employee.api.write-behind.enabled", havingValue = "true")
+@Tag(name = "Employee Management", description = "APIs for managing employee data")
+public class CreateJobController {
+
+    private final CreateJobQueue createJobQueue;
+    private final IdempotencyStore idempotencyStore;
+
+    @PostMapping
+    @Operation(
+            summary = "Queue an employee create",
+            description = "Accepts the employee for creation once the upstream has capacity and returns a job to poll."
+                    + " A repeat with the same Idempotency-Key header returns the same job.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "202",
+                        description = "Create queued",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = CreateJob.class))),
+                @ApiResponse(
+                        responseCode = "503",
+                        description = "Queue full",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<CreateJob> submitCreateEmployee(
+            @Valid @RequestBody CreateEmployeeInput employeeInput,
+            @Parameter(description = "Client-chosen key that makes retries of this request safe")
+                    @RequestHeader(name = EmployeeService.IDEMPOTENCY_KEY_HEADER, required = false)
+                    String idempotencyKey) {
+        log.info("Queueing new employee: {}", employeeInput.getName());
+        CreateJob job = idempotencyKey == null
+                ? createJobQueue.submit(employeeInput)
+                : idempotencyStore.execute(
+                        "create-job", idempotencyKey, employeeInput, () -> createJobQueue.submit(employeeInput));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employee/jobs/" + job.getId()))
+                .body(createJobQueue.status(job.getId()).orElse(job));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get a queued create", description = "Returns the state of a job from the create queue")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Job state",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = CreateJob.class))),
+                @ApiResponse(responseCode = "404", description = "Unknown job, or its outcome has expired")
+            })
+    public ResponseEntity<CreateJob> getCreateJob(
+            @Parameter(description = "Job UUID", example = "3f2c7a8e-1b4d-4e6f-9a0b-5c6d7e8f9a0b") @PathVariable
+                    UUID jobId) {
+        return createJobQueue
+                .status(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,11 +1,15 @@
 package com.reliaquest.api.controller;
 
+import com.reliaquest.api.cache.IdempotencyStore;
+import com.reliaquest.api.exception.InvalidEmployeeDataException;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.ErrorResponse;
 import com.reliaquest.api.service.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -13,12 +17,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,6 +40,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
     private final EmployeeService employeeService;
+    private final IdempotencyStore idempotencyStore;
+    // The interface's createEmployee cannot take the Idempotency-Key header as a parameter
+    private final HttpServletRequest request;
+
+    @Value("${employee.api.batch.max-size:1000}")
+    private int maxBatchSize;
 
     @Override
     @Operation(summary = "Get all employees", description = "Retrieves a list of all employees in the system")
@@ -152,7 +168,15 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     }
 
     @Override
-    @Operation(summary = "Create a new employee", description = "Creates a new employee with the provided information")
+    @Operation(
+            summary = "Create a new employee",
+            description = "Creates a new employee with the provided information. A repeat with the same"
+                    + " Idempotency-Key header returns the employee created the first time.")
+    @Parameter(
+            name = EmployeeService.IDEMPOTENCY_KEY_HEADER,
+            in = ParameterIn.HEADER,
+            description = "Client-chosen key that makes retries of this request safe",
+            example = "0b9f6c1e-6d4a-4c57-9a55-3f0e1e2d7c11")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -165,6 +189,13 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                 @ApiResponse(
                         responseCode = "400",
                         description = "Invalid employee data",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Idempotency key already used for a different employee",
                         content =
                                 @Content(
                                         mediaType = "application/json",
@@ -185,7 +216,18 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
                     @Valid
                     CreateEmployeeInput employeeInput) {
         log.info("Creating new employee: {}", employeeInput.getName());
-        Employee created = employeeService.createEmployee(employeeInput);
+        String idempotencyKey = request.getHeader(EmployeeService.IDEMPOTENCY_KEY_HEADER);
+        Employee created;
+        if (idempotencyKey == null) {
+            // Still keyed upstream, so the service's own retries cannot create the employee twice
+            created = employeeService.createEmployee(employeeInput, UUID.randomUUID().toString());
+        } else {
+            created = idempotencyStore.execute(
+                    "create",
+                    idempotencyKey,
+                    employeeInput,
+                    () -> employeeService.createEmployee(employeeInput, idempotencyKey));
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -217,4 +259,82 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         String deletedEmployeeName = employeeService.deleteEmployeeById(id);
         return ResponseEntity.ok(deletedEmployeeName);
     }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Create employees in a batch",
+            description = "Creates all employees in one upstream call, or none of them if any is invalid. A repeat with"
+                    + " the same Idempotency-Key header returns the results of the first time.")
+    @Parameter(
+            name = EmployeeService.IDEMPOTENCY_KEY_HEADER,
+            in = ParameterIn.HEADER,
+            description = "Client-chosen key that makes retries of this request safe",
+            example = "0b9f6c1e-6d4a-4c57-9a55-3f0e1e2d7c11")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "201",
+                        description = "All employees created",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array =
+                                                @ArraySchema(
+                                                        schema = @Schema(implementation = BatchItemResult.class)))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Nothing created; the results mark the invalid items",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class)))),
+                @ApiResponse(
+                        responseCode = "422",
+                        description = "Idempotency key already used for a different batch",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    public ResponseEntity<List<BatchItemResult>> createEmployees(@RequestBody List<CreateEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        log.info("Creating {} employees", inputs.size());
+        String idempotencyKey = request.getHeader(EmployeeService.IDEMPOTENCY_KEY_HEADER);
+        List<BatchItemResult> results;
+        if (idempotencyKey == null) {
+            // Still keyed upstream, so the service's own retries cannot create the batch twice
+            results = employeeService.createEmployees(inputs, UUID.randomUUID().toString());
+        } else {
+            results = idempotencyStore.execute(
+                    "batch", idempotencyKey, inputs, () -> employeeService.createEmployees(inputs, idempotencyKey));
+        }
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == BatchItemResult.Status.CREATED);
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST).body(results);
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(
+            summary = "Delete employees by ID in a batch",
+            description = "Deletes the employees with the given ids in one upstream call, with a result per id")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Per-id results in request order",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        array = @ArraySchema(schema = @Schema(implementation = BatchItemResult.class))))
+            })
+    public ResponseEntity<List<BatchItemResult>> deleteEmployeesById(@RequestBody List<String> ids) {
+        checkBatchSize(ids.size());
+        log.info("Deleting {} employees", ids.size());
+        return ResponseEntity.ok(employeeService.deleteEmployeesById(ids));
+    }
+
+    private void checkBatchSize(int size) {
+        if (size == 0 || size > maxBatchSize) {
+            throw new InvalidEmployeeDataException("A batch must hold 1 to %d items".formatted(maxBatchSize));
+        }
+    }
 }
@@ -97,6 +97,43 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(
+            IdempotencyKeyReusedException ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+        log.warn("Idempotency key reused - TraceId: {}, Key: {}", traceId, ex.getIdempotencyKey());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .error("IDEMPOTENCY_KEY_REUSED")
+                .message(ex.getMessage())
+                .status(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .traceId(traceId)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleWriteQueueFull(WriteQueueFullException ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+        log.warn("Create queue full - TraceId: {}", traceId);
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .error("QUEUE_FULL")
+                .message(ex.getMessage())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .traceId(traceId)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
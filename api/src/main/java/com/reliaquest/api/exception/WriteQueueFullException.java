@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+/**
+ * Exception thrown when the asynchronous create queue already holds as many jobs as it may.
+ */
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException(int capacity) {
+        super(String.format("Create queue is full (%d jobs), try again later", capacity));
+    }
+}
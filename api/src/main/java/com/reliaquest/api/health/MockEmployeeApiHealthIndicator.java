@@ -1,21 +1,31 @@
 package com.reliaquest.api.health;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.reliaquest.api.cache.TieredCache;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Health indicator for the Mock Employee API service.
+ *
+ * <p>The upstream only tolerates a handful of requests before locking us out, so health is derived passively from the
+ * circuit breaker state and the outcome of recent real traffic. An active probe is only sent when traffic has been idle
+ * for longer than {@code employee.api.health.idle-threshold}, its result is cached for
+ * {@code employee.api.health.probe-ttl}, and it targets a single unknown id rather than the full employee list.
  */
 @Component
 @Slf4j
@@ -25,65 +35,135 @@ public class MockEmployeeApiHealthIndicator implements HealthIndicator {
     private final CircuitBreaker circuitBreaker;
     private final RateLimiter rateLimiter;
     private final CacheManager cacheManager;
+    private final UpstreamTrafficMonitor trafficMonitor;
 
     @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}")
     private String baseUrl;
 
+    @Value("${employee.api.health.idle-threshold:30s}")
+    private Duration idleThreshold;
+
+    @Value("${employee.api.health.probe-ttl:60s}")
+    private Duration probeTtl;
+
+    @Value("${employee.api.health.probe-path:/00000000-0000-0000-0000-000000000000}")
+    private String probePath;
+
+    private volatile ProbeResult lastProbe;
+
     public MockEmployeeApiHealthIndicator(
             RestTemplate restTemplate,
             CircuitBreakerRegistry circuitBreakerRegistry,
             RateLimiterRegistry rateLimiterRegistry,
-            CacheManager cacheManager) {
+            CacheManager cacheManager,
+            UpstreamTrafficMonitor trafficMonitor) {
         this.restTemplate = restTemplate;
         this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("employee-service");
         this.rateLimiter = rateLimiterRegistry.rateLimiter("employee-service");
         this.cacheManager = cacheManager;
+        this.trafficMonitor = trafficMonitor;
     }
 
     @Override
     public Health health() {
-        try {
-            // Perform a simple GET request to check if the service is available
-            restTemplate.getForEntity(baseUrl, String.class);
-
-            // Get circuit breaker metrics
-            CircuitBreaker.Metrics cbMetrics = circuitBreaker.getMetrics();
-
-            // Get cache statistics
-            long cacheHits = 0;
-            long cacheMisses = 0;
-            if (cacheManager.getCache("employees") instanceof CaffeineCache) {
-                Cache<Object, Object> nativeCache =
-                        ((CaffeineCache) cacheManager.getCache("employees")).getNativeCache();
-                cacheHits = nativeCache.stats().hitCount();
-                cacheMisses = nativeCache.stats().missCount();
-            }
+        long now = System.currentTimeMillis();
+        CircuitBreaker.State state = circuitBreaker.getState();
+        UpstreamTrafficMonitor.Snapshot traffic = trafficMonitor.snapshot();
 
-            return Health.up()
-                    .withDetail("service", "Mock Employee API")
-                    .withDetail("url", baseUrl)
-                    .withDetail("status", "UP")
-                    .withDetail("description", "Mock Employee API is responding")
-                    .withDetail("circuitBreaker.state", circuitBreaker.getState())
-                    .withDetail("circuitBreaker.failureRate", cbMetrics.getFailureRate())
-                    .withDetail("circuitBreaker.slowCallRate", cbMetrics.getSlowCallRate())
+        Health.Builder builder;
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+            builder = Health.down()
+                    .withDetail("source", "circuit-breaker")
+                    .withDetail("description", "Circuit breaker is open for Mock Employee API");
+        } else if (traffic.isActiveWithin(idleThreshold, now)) {
+            builder = traffic.isHealthy() ? Health.up() : Health.down();
+            builder.withDetail("source", "traffic")
                     .withDetail(
-                            "rateLimiter.availablePermissions",
-                            rateLimiter.getMetrics().getAvailablePermissions())
-                    .withDetail("cache.hitRate", cacheHits > 0 ? (double) cacheHits / (cacheHits + cacheMisses) : 0)
-                    .build();
+                            "description",
+                            traffic.isHealthy()
+                                    ? "Mock Employee API is serving recent requests"
+                                    : "Recent requests to Mock Employee API are failing");
+            if (!traffic.isHealthy() && traffic.lastFailureMessage() != null) {
+                builder.withDetail("error", traffic.lastFailureMessage());
+            }
+        } else {
+            ProbeResult probe = probe(now);
+            builder = probe.reachable() ? Health.up() : Health.down();
+            builder.withDetail("source", "probe")
+                    .withDetail("probe.checkedAt", Instant.ofEpochMilli(probe.checkedAt()))
+                    .withDetail(
+                            "description",
+                            probe.reachable() ? "Mock Employee API is responding" : "Mock Employee API is not responding");
+            if (probe.error() != null) {
+                builder.withDetail("error", probe.error());
+            }
+        }
+
+        return withCommonDetails(builder, traffic).build();
+    }
+
+    private Health.Builder withCommonDetails(Health.Builder builder, UpstreamTrafficMonitor.Snapshot traffic) {
+        CircuitBreaker.Metrics cbMetrics = circuitBreaker.getMetrics();
 
+        // Get cache statistics
+        long cacheHits = 0;
+        long cacheMisses = 0;
+        org.springframework.cache.Cache employees = cacheManager.getCache("employees");
+        if (employees instanceof TieredCache tiered) {
+            employees = tiered.getL1();
+        }
+        if (employees instanceof CaffeineCache) {
+            Cache<Object, Object> nativeCache = ((CaffeineCache) employees).getNativeCache();
+            cacheHits = nativeCache.stats().hitCount();
+            cacheMisses = nativeCache.stats().missCount();
+        }
+
+        builder.withDetail("service", "Mock Employee API")
+                .withDetail("url", baseUrl)
+                .withDetail("circuitBreaker.state", circuitBreaker.getState())
+                .withDetail("circuitBreaker.failureRate", cbMetrics.getFailureRate())
+                .withDetail("circuitBreaker.slowCallRate", cbMetrics.getSlowCallRate())
+                .withDetail(
+                        "rateLimiter.availablePermissions",
+                        rateLimiter.getMetrics().getAvailablePermissions())
+                .withDetail("cache.hitRate", cacheHits > 0 ? (double) cacheHits / (cacheHits + cacheMisses) : 0)
+                .withDetail("traffic.successCount", traffic.successCount())
+                .withDetail("traffic.failureCount", traffic.failureCount())
+                .withDetail("traffic.throttledCount", traffic.throttledCount());
+        if (traffic.lastActivityAt() > 0) {
+            builder.withDetail("traffic.lastActivityAt", Instant.ofEpochMilli(traffic.lastActivityAt()));
+        }
+        return builder;
+    }
+
+    private ProbeResult probe(long now) {
+        ProbeResult cached = lastProbe;
+        if (cached != null && now - cached.checkedAt() < probeTtl.toMillis()) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = lastProbe;
+            if (cached != null && now - cached.checkedAt() < probeTtl.toMillis()) {
+                return cached;
+            }
+            lastProbe = executeProbe();
+            return lastProbe;
+        }
+    }
+
+    private ProbeResult executeProbe() {
+        long checkedAt = System.currentTimeMillis();
+        try {
+            // A lookup of an id that never exists answers with a tiny body instead of the whole employee list
+            restTemplate.exchange(baseUrl + probePath, HttpMethod.GET, null, String.class);
+            return new ProbeResult(true, checkedAt, null);
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.TooManyRequests e) {
+            return new ProbeResult(true, checkedAt, null);
         } catch (Exception e) {
-            log.warn("Mock Employee API health check failed", e);
-
-            return Health.down()
-                    .withDetail("service", "Mock Employee API")
-                    .withDetail("url", baseUrl)
-                    .withDetail("status", "DOWN")
-                    .withDetail("error", e.getMessage())
-                    .withDetail("description", "Mock Employee API is not responding")
-                    .withDetail("circuitBreaker.state", circuitBreaker.getState())
-                    .build();
+            log.warn("Mock Employee API health probe failed", e);
+            return new ProbeResult(false, checkedAt, e.getMessage());
         }
     }
+
+    private record ProbeResult(boolean reachable, long checkedAt, String error) {}
 }
@@ -0,0 +1,94 @@
+package com.reliaquest.api.health;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Records the outcome of real upstream calls by listening to the "employee-service" circuit breaker, so health can be
+ * derived from traffic we already pay for instead of spending upstream quota on probes.
+ */
+@Component
+public class UpstreamTrafficMonitor {
+
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    private volatile long lastSuccessAt;
+    private volatile long lastFailureAt;
+    private volatile long lastThrottledAt;
+    private volatile String lastFailureMessage;
+
+    public UpstreamTrafficMonitor(CircuitBreakerRegistry circuitBreakerRegistry) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("employee-service");
+        circuitBreaker.getEventPublisher().onSuccess(event -> recordSuccess());
+        circuitBreaker.getEventPublisher().onError(event -> recordFailure(event.getThrowable()));
+    }
+
+    public void recordSuccess() {
+        successCount.incrementAndGet();
+        lastSuccessAt = System.currentTimeMillis();
+    }
+
+    public void recordFailure(Throwable throwable) {
+        if (isThrottled(throwable)) {
+            // A 429 proves the upstream is alive; it is only refusing us for a while.
+            throttledCount.incrementAndGet();
+            lastThrottledAt = System.currentTimeMillis();
+            return;
+        }
+        failureCount.incrementAndGet();
+        lastFailureMessage = throwable != null ? throwable.getMessage() : null;
+        lastFailureAt = System.currentTimeMillis();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(
+                successCount.get(),
+                failureCount.get(),
+                throttledCount.get(),
+                lastSuccessAt,
+                lastFailureAt,
+                lastThrottledAt,
+                lastFailureMessage);
+    }
+
+    private static boolean isThrottled(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof HttpClientErrorException.TooManyRequests) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Point-in-time view of upstream traffic outcomes. Timestamps are epoch millis, {@code 0} when never observed.
+     */
+    public record Snapshot(
+            long successCount,
+            long failureCount,
+            long throttledCount,
+            long lastSuccessAt,
+            long lastFailureAt,
+            long lastThrottledAt,
+            String lastFailureMessage) {
+
+        public long lastActivityAt() {
+            return Math.max(lastSuccessAt, Math.max(lastFailureAt, lastThrottledAt));
+        }
+
+        public boolean isActiveWithin(Duration window, long now) {
+            long lastActivity = lastActivityAt();
+            return lastActivity > 0 && now - lastActivity <= window.toMillis();
+        }
+
+        public boolean isHealthy() {
+            return lastSuccessAt >= lastFailureAt || lastThrottledAt >= lastFailureAt;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Outcome of one item of a batch create or delete")
+public class BatchItemResult {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "What happened to the item", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "The created or deleted employee")
+    private Employee employee;
+
+    @Schema(description = "Why the item was not applied", example = "salary must be greater than 0")
+    private String error;
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        /** The item is invalid, so the batch was rejected. */
+        INVALID,
+        /** The item was not applied because of another item or an earlier duplicate. */
+        SKIPPED,
+        /** Another employee with the same name was deleted instead; it is the {@code employee} of the result. */
+        MISMATCH
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte encoding for strings held in compact caches. Latin-1 text (almost every name and email we see) is stored as one
+ * byte per character without a {@link String} wrapper; anything else is stored as a {@code 0x00} marker followed by
+ * UTF-8.
+ */
+public final class CompactStrings {
+
+    private static final byte UTF8_MARKER = 0;
+
+    private CompactStrings() {}
+
+    public static byte[] encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (isLatin1(value)) {
+            byte[] bytes = new byte[value.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) value.charAt(i);
+            }
+            return bytes;
+        }
+        return utf8(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static byte[] encode(char[] chars, int offset, int length) {
+        boolean latin1 = length == 0 || chars[offset] != 0;
+        for (int i = offset; latin1 && i < offset + length; i++) {
+            latin1 = chars[i] <= 0xFF;
+        }
+        if (latin1) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = (byte) chars[offset + i];
+            }
+            return bytes;
+        }
+        return utf8(new String(chars, offset, length).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (isUtf8(bytes)) {
+            return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Case-insensitive substring test against an already lower-cased needle, without decoding Latin-1 values.
+     */
+    public static boolean containsIgnoreCase(byte[] bytes, String lowerCaseNeedle) {
+        if (bytes == null) {
+            return false;
+        }
+        if (isUtf8(bytes)) {
+            return decode(bytes).toLowerCase().contains(lowerCaseNeedle);
+        }
+        int needleLength = lowerCaseNeedle.length();
+        for (int i = 0; i < needleLength; i++) {
+            if (lowerCaseNeedle.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        outer:
+        for (int start = 0; start <= bytes.length - needleLength; start++) {
+            for (int j = 0; j < needleLength; j++) {
+                if (Character.toLowerCase((char) (bytes[start + j] & 0xFF)) != lowerCaseNeedle.charAt(j)) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isLatin1(String value) {
+        if (!value.isEmpty() && value.charAt(0) == 0) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUtf8(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == UTF8_MARKER;
+    }
+
+    private static byte[] utf8(byte[] encoded) {
+        byte[] bytes = new byte[encoded.length + 1];
+        bytes[0] = UTF8_MARKER;
+        System.arraycopy(encoded, 0, bytes, 1, encoded.length);
+        return bytes;
+    }
+}
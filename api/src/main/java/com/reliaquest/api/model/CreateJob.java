@@ -0,0 +1,43 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "An employee create accepted for asynchronous processing")
+public class CreateJob {
+
+    @Schema(description = "Job identifier to poll", example = "3f2c7a8e-1b4d-4e6f-9a0b-5c6d7e8f9a0b")
+    private UUID id;
+
+    @Schema(description = "Where the job is", example = "QUEUED")
+    private Status status;
+
+    @Schema(description = "The created employee, once the job is CREATED")
+    private Employee employee;
+
+    @Schema(description = "Why the upstream rejected the employee, if the job FAILED")
+    private String error;
+
+    @Schema(description = "When the job was accepted")
+    private Instant submittedAt;
+
+    @Schema(description = "When the job was created or failed")
+    private Instant completedAt;
+
+    public enum Status {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the mock server's change log: a created employee, or the id of a deleted one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeeChange {
+
+    private long version;
+    private Type type;
+    private UUID id;
+    private Employee employee;
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
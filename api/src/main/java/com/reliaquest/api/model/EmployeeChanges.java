@@ -0,0 +1,24 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The mock server's answer to "what changed since version N"; {@code truncated} means a full fetch is required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeeChanges {
+
+    private String epoch;
+    private long version;
+    private boolean truncated;
+    private List<EmployeeChange> changes;
+}
@@ -0,0 +1,620 @@
+package com.reliaquest.api.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compact, immutable employee list held by the {@code employees} cache.
+ *
+ * <p>Each employee is one row across primitive columns: the UUID packed into two longs, salary and age as ints, the
+ * title as a code into a per-snapshot dictionary, and name and email as {@link CompactStrings} bytes. That is about
+ * 100 bytes per typical employee, 36 of them in the columns, against about 350 for an {@link Employee} with its
+ * {@code UUID}, boxed salary and three {@code String}s. {@link Employee} DTOs are only materialised by
+ * {@link #get(int)}, i.e. while a response is being serialized or for the few rows a query returns.
+ *
+ * <p>{@link #withChanges} costs as much as the changes, not the list: the newest snapshot over a set of columns appends
+ * created rows into their spare capacity and shares them, and its id index, with the snapshot it came from, which never
+ * reads past its own rows. Deleted rows are only listed as tombstones until they make up a quarter of the rows, or the
+ * columns are full, when the live rows are copied into fresh columns.
+ */
+public final class EmployeeSnapshot extends AbstractList<Employee> implements RandomAccess {
+
+    /** Salary or age of an employee that has none. */
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int NO_TITLE = -1;
+    private static final int[] NO_ROWS = new int[0];
+
+    private final Columns columns;
+    private final int rows;
+    // Sorted rows below rows that are deleted from this snapshot; the list skips them
+    private final int[] deletedRows;
+    private final String[] titles;
+    private final long estimatedRetainedBytes;
+
+    /**
+     * Open-addressing table of row + 1 keyed by id, built on the first {@link #indexOf} call and shared with later
+     * snapshots over the same columns; 0 marks a free slot. Rows past {@code rows} or deleted here are skipped.
+     */
+    private volatile int[] idIndex;
+
+    private EmployeeSnapshot(Builder builder) {
+        this.columns = new Columns(builder, builder.size);
+        this.rows = builder.size;
+        this.deletedRows = NO_ROWS;
+        this.titles = columns.titles;
+        this.estimatedRetainedBytes = estimateRetainedBytes();
+    }
+
+    private EmployeeSnapshot(Columns columns, int rows, int[] deletedRows, int[] idIndex, long estimatedRetainedBytes) {
+        this.columns = columns;
+        this.rows = rows;
+        this.deletedRows = deletedRows;
+        this.titles = columns.titles;
+        this.idIndex = idIndex;
+        this.estimatedRetainedBytes = estimatedRetainedBytes;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public static EmployeeSnapshot of(Collection<Employee> employees) {
+        if (employees instanceof EmployeeSnapshot snapshot) {
+            return snapshot;
+        }
+        Builder builder = builder(employees.size());
+        employees.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public Employee get(int index) {
+        int row = row(index);
+        return Employee.builder()
+                .id(idAt(row))
+                .name(CompactStrings.decode(columns.names[row]))
+                .salary(boxed(columns.salaries[row]))
+                .age(boxed(columns.ages[row]))
+                .title(titleAt(row))
+                .email(CompactStrings.decode(columns.emails[row]))
+                .build();
+    }
+
+    @Override
+    public int size() {
+        return rows - deletedRows.length;
+    }
+
+    public UUID id(int index) {
+        return idAt(row(index));
+    }
+
+    public String name(int index) {
+        return CompactStrings.decode(columns.names[row(index)]);
+    }
+
+    public long idMostSigBits(int index) {
+        return columns.idMostSigBits[row(index)];
+    }
+
+    public long idLeastSigBits(int index) {
+        return columns.idLeastSigBits[row(index)];
+    }
+
+    /** Salary of the row, or {@link #NO_VALUE}. */
+    public int salary(int index) {
+        return columns.salaries[row(index)];
+    }
+
+    /** Age of the row, or {@link #NO_VALUE}. */
+    public int age(int index) {
+        return columns.ages[row(index)];
+    }
+
+    public String title(int index) {
+        return titleAt(row(index));
+    }
+
+    /** The {@link CompactStrings} encoded name; shared with the snapshot, so it must not be modified. */
+    public byte[] nameBytes(int index) {
+        return columns.names[row(index)];
+    }
+
+    /** The {@link CompactStrings} encoded email; shared with the snapshot, so it must not be modified. */
+    public byte[] emailBytes(int index) {
+        return columns.emails[row(index)];
+    }
+
+    /**
+     * A snapshot with {@code changes} applied in order: deleted ids are dropped and created employees appended,
+     * replacing any row with the same id, so replaying a change the snapshot already contains is harmless. Only the
+     * changed rows are touched, unless the columns have to be compacted or grown.
+     */
+    public EmployeeSnapshot withChanges(List<EmployeeChange> changes) {
+        if (changes.isEmpty()) {
+            return this;
+        }
+        // Net effect per id, in order of the last change; null marks a delete
+        Map<UUID, Employee> changed = new LinkedHashMap<>();
+        for (EmployeeChange change : changes) {
+            if (change.getId() != null) {
+                changed.remove(change.getId());
+                changed.put(
+                        change.getId(), change.getType() == EmployeeChange.Type.CREATED ? change.getEmployee() : null);
+            }
+        }
+        int[] dropped = new int[changed.size()];
+        int droppedCount = 0;
+        List<Employee> created = new ArrayList<>(changed.size());
+        for (Map.Entry<UUID, Employee> entry : changed.entrySet()) {
+            int row = liveRowOf(entry.getKey());
+            if (row >= 0) {
+                dropped[droppedCount++] = row;
+            }
+            if (entry.getValue() != null) {
+                created.add(entry.getValue());
+            }
+        }
+        int[] deleted = merge(deletedRows, dropped, droppedCount);
+        int newRows = rows + created.size();
+        if (deleted.length > newRows >> 2
+                || newRows > columns.capacity()
+                || (!created.isEmpty() && !columns.tip.compareAndSet(rows, newRows))) {
+            return compacted(deleted, created);
+        }
+        long addedBytes = arrayBytes(deleted.length, 4) - arrayBytes(deletedRows.length, 4);
+        for (int i = 0; i < created.size(); i++) {
+            addedBytes += columns.set(rows + i, created.get(i));
+        }
+        return new EmployeeSnapshot(
+                columns, newRows, deleted, indexAppended(newRows), estimatedRetainedBytes + addedBytes);
+    }
+
+    /**
+     * Index of the employee with {@code id}, or -1. The first call builds an id index over the rows, so later lookups
+     * are constant time without a {@code Map} of boxed keys.
+     */
+    public int indexOf(UUID id) {
+        int row = liveRowOf(id);
+        return row < 0 ? -1 : row - deletedBefore(row);
+    }
+
+    /**
+     * Approximate heap retained by this snapshot on a 64-bit JVM with compressed oops, used to weigh cache entries.
+     */
+    public long estimatedRetainedBytes() {
+        return estimatedRetainedBytes;
+    }
+
+    public OptionalInt highestSalary() {
+        int highest = NO_VALUE;
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < deletedRows.length && deletedRows[next] == row) {
+                next++;
+                continue;
+            }
+            highest = Math.max(highest, columns.salaries[row]);
+        }
+        return highest == NO_VALUE ? OptionalInt.empty() : OptionalInt.of(highest);
+    }
+
+    /**
+     * Names of the {@code limit} highest earners, highest first; ties keep list order. Employees without a salary are
+     * skipped.
+     */
+    public List<String> topEarnerNames(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        int[] salaries = columns.salaries;
+        int[] top = new int[limit];
+        int count = 0;
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < deletedRows.length && deletedRows[next] == row) {
+                next++;
+                continue;
+            }
+            int salary = salaries[row];
+            if (salary == NO_VALUE || (count == top.length && salary <= salaries[top[count - 1]])) {
+                continue;
+            }
+            int position = count < top.length ? count++ : count - 1;
+            while (position > 0 && salaries[top[position - 1]] < salary) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = row;
+        }
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(CompactStrings.decode(columns.names[top[i]]));
+        }
+        return result;
+    }
+
+    /**
+     * Employees whose name contains {@code lowerCaseFragment}, ignoring case. Only matching rows are materialised.
+     */
+    public List<Employee> searchByName(String lowerCaseFragment) {
+        List<Employee> matches = new ArrayList<>();
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < deletedRows.length && deletedRows[next] == row) {
+                next++;
+                continue;
+            }
+            if (CompactStrings.containsIgnoreCase(columns.names[row], lowerCaseFragment)) {
+                matches.add(get(row - next));
+            }
+        }
+        return matches;
+    }
+
+    /** Row of the list's {@code index}: the index plus the deleted rows at or before it. */
+    private int row(int index) {
+        Objects.checkIndex(index, size());
+        if (deletedRows.length == 0) {
+            return index;
+        }
+        // deletedRows[k] - k is the index the k-th deleted row pushes along, and does not decrease with k
+        int low = 0;
+        int high = deletedRows.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (deletedRows[middle] - middle <= index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return index + low;
+    }
+
+    private int deletedBefore(int row) {
+        int position = Arrays.binarySearch(deletedRows, row);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private UUID idAt(int row) {
+        long msb = columns.idMostSigBits[row];
+        long lsb = columns.idLeastSigBits[row];
+        return msb == 0 && lsb == 0 ? null : new UUID(msb, lsb);
+    }
+
+    private String titleAt(int row) {
+        int code = columns.titleCodes[row];
+        return code == NO_TITLE ? null : titles[code];
+    }
+
+    private int liveRowOf(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int[] table = idIndex;
+        if (table == null) {
+            // Racing builders produce identical tables, so publishing either one is fine
+            table = buildIdIndex(idIndexCapacity(rows));
+            idIndex = table;
+        }
+        int mask = table.length - 1;
+        for (int slot = slot(msb, lsb, mask); ; slot = (slot + 1) & mask) {
+            int row = table[slot] - 1;
+            if (row < 0) {
+                return -1;
+            }
+            // A replaced employee has a deleted row and a live one with the same id, so keep probing past the former
+            if (row < rows
+                    && columns.idMostSigBits[row] == msb
+                    && columns.idLeastSigBits[row] == lsb
+                    && Arrays.binarySearch(deletedRows, row) < 0) {
+                return row;
+            }
+        }
+    }
+
+    /**
+     * The id index for a snapshot of {@code newRows} appended to this one: this index with the new rows added if it has
+     * room, else null so the new snapshot builds its own when first asked.
+     */
+    private int[] indexAppended(int newRows) {
+        int[] table = idIndex;
+        if (table == null || newRows > table.length >> 1) {
+            return null;
+        }
+        int mask = table.length - 1;
+        for (int row = rows; row < newRows; row++) {
+            insert(table, mask, row);
+        }
+        return table;
+    }
+
+    /** A snapshot of the live rows here, without {@code deleted}, plus {@code created}, in fresh columns with room. */
+    private EmployeeSnapshot compacted(int[] deleted, List<Employee> created) {
+        Builder builder = builder(headroom(rows - deleted.length + created.size()));
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < deleted.length && deleted[next] == row) {
+                next++;
+                continue;
+            }
+            builder.add(
+                    columns.idMostSigBits[row],
+                    columns.idLeastSigBits[row],
+                    columns.names[row],
+                    columns.salaries[row],
+                    columns.ages[row],
+                    titleAt(row),
+                    columns.emails[row]);
+        }
+        created.forEach(builder::add);
+        return new EmployeeSnapshot(builder);
+    }
+
+    private int[] buildIdIndex(int capacity) {
+        // At most half full, so probe sequences stay short and always reach a free slot
+        int[] table = new int[capacity];
+        int mask = table.length - 1;
+        int next = 0;
+        for (int row = 0; row < rows; row++) {
+            if (next < deletedRows.length && deletedRows[next] == row) {
+                next++;
+                continue;
+            }
+            insert(table, mask, row);
+        }
+        return table;
+    }
+
+    private void insert(int[] table, int mask, int row) {
+        long msb = columns.idMostSigBits[row];
+        long lsb = columns.idLeastSigBits[row];
+        if (msb == 0 && lsb == 0) {
+            return;
+        }
+        int slot = slot(msb, lsb, mask);
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = row + 1;
+    }
+
+    private static int headroom(int rows) {
+        return rows + (rows >> 2) + 16;
+    }
+
+    private static int idIndexCapacity(int rows) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, rows) * 2 - 1) << 1);
+    }
+
+    private static int slot(long msb, long lsb, int mask) {
+        long hash = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    /** {@code sorted} with the first {@code count} of {@code added} merged in, in order. */
+    private static int[] merge(int[] sorted, int[] added, int count) {
+        if (count == 0) {
+            return sorted;
+        }
+        Arrays.sort(added, 0, count);
+        int[] merged = new int[sorted.length + count];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            merged[k] = j == count || (i < sorted.length && sorted[i] < added[j]) ? sorted[i++] : added[j++];
+        }
+        return merged;
+    }
+
+    private long estimateRetainedBytes() {
+        int capacity = columns.capacity();
+        long bytes = 48 // this object
+                + 32 // its columns
+                + arrayBytes(idIndexCapacity(rows), 4) // id index, once built
+                + 2 * arrayBytes(capacity, 8) // id halves
+                + 3 * arrayBytes(capacity, 4) // salaries, ages, title codes
+                + 2 * arrayBytes(capacity, 4) // name and email references
+                + arrayBytes(titles.length, 4)
+                + arrayBytes(deletedRows.length, 4);
+        for (int row = 0; row < rows; row++) {
+            bytes += stringBytes(columns.names[row]) + stringBytes(columns.emails[row]);
+        }
+        for (String title : titles) {
+            bytes += 24 + arrayBytes(title.length(), 1);
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(byte[] bytes) {
+        return bytes != null ? arrayBytes(bytes.length, 1) : 0;
+    }
+
+    private static long arrayBytes(long length, int elementBytes) {
+        return (16 + length * elementBytes + 7) & ~7L;
+    }
+
+    private static Integer boxed(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    /**
+     * Column arrays shared by a snapshot and the ones appended to it. Rows below {@link #tip} are never written again;
+     * only the snapshot that ends at the tip may append, after moving the tip past its new rows.
+     */
+    private static final class Columns {
+
+        private final long[] idMostSigBits;
+        private final long[] idLeastSigBits;
+        private final int[] salaries;
+        private final int[] ages;
+        private final int[] titleCodes;
+        private final byte[][] names;
+        private final byte[][] emails;
+        private final Map<String, Integer> titleDictionary;
+        private final AtomicInteger tip;
+        // Only written by the snapshot appending at the tip; each snapshot keeps the array current when it was made
+        private String[] titles;
+
+        private Columns(Builder builder, int rows) {
+            this.idMostSigBits = builder.idMostSigBits;
+            this.idLeastSigBits = builder.idLeastSigBits;
+            this.salaries = builder.salaries;
+            this.ages = builder.ages;
+            this.titleCodes = builder.titleCodes;
+            this.names = builder.names;
+            this.emails = builder.emails;
+            this.titleDictionary = builder.titleDictionary;
+            this.titles = builder.titles.toArray(new String[0]);
+            this.tip = new AtomicInteger(rows);
+        }
+
+        private int capacity() {
+            return salaries.length;
+        }
+
+        /** Writes {@code employee} into {@code row} and returns the bytes that adds to the retained estimate. */
+        private long set(int row, Employee employee) {
+            UUID id = employee.getId();
+            idMostSigBits[row] = id != null ? id.getMostSignificantBits() : 0;
+            idLeastSigBits[row] = id != null ? id.getLeastSignificantBits() : 0;
+            names[row] = CompactStrings.encode(employee.getName());
+            salaries[row] = employee.getSalary() != null ? employee.getSalary() : NO_VALUE;
+            ages[row] = employee.getAge() != null ? employee.getAge() : NO_VALUE;
+            emails[row] = CompactStrings.encode(employee.getEmail());
+            long bytes = stringBytes(names[row]) + stringBytes(emails[row]);
+            String title = employee.getTitle();
+            if (title == null) {
+                titleCodes[row] = NO_TITLE;
+                return bytes;
+            }
+            Integer code = titleDictionary.get(title);
+            if (code == null) {
+                code = titles.length;
+                titleDictionary.put(title, code);
+                titles = Arrays.copyOf(titles, code + 1);
+                titles[code] = title;
+                bytes += 24 + arrayBytes(title.length(), 1) + 4;
+            }
+            titleCodes[row] = code;
+            return bytes;
+        }
+    }
+
+    /**
+     * Accumulates rows column by column; titles are interned into the snapshot's dictionary as they arrive. Sized for
+     * the expected row count, so a correctly sized builder hands its arrays to the snapshot without copying.
+     */
+    public static final class Builder {
+
+        private int size;
+        private long[] idMostSigBits;
+        private long[] idLeastSigBits;
+        private int[] salaries;
+        private int[] ages;
+        private int[] titleCodes;
+        private byte[][] names;
+        private byte[][] emails;
+        private final List<String> titles = new ArrayList<>();
+        private final Map<String, Integer> titleDictionary = new HashMap<>();
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(0, expectedSize);
+            idMostSigBits = new long[capacity];
+            idLeastSigBits = new long[capacity];
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new int[capacity];
+            names = new byte[capacity][];
+            emails = new byte[capacity][];
+        }
+
+        public Builder add(Employee employee) {
+            UUID id = employee.getId();
+            return add(
+                    id != null ? id.getMostSignificantBits() : 0,
+                    id != null ? id.getLeastSignificantBits() : 0,
+                    CompactStrings.encode(employee.getName()),
+                    employee.getSalary() != null ? employee.getSalary() : NO_VALUE,
+                    employee.getAge() != null ? employee.getAge() : NO_VALUE,
+                    employee.getTitle(),
+                    CompactStrings.encode(employee.getEmail()));
+        }
+
+        /**
+         * Adds a row from already-encoded fields; a {@code 0/0} id and a {@link #NO_VALUE} salary or age mean absent.
+         */
+        public Builder add(
+                long idMostSigBits,
+                long idLeastSigBits,
+                byte[] name,
+                int salary,
+                int age,
+                String title,
+                byte[] email) {
+            ensureCapacity(size + 1);
+            this.idMostSigBits[size] = idMostSigBits;
+            this.idLeastSigBits[size] = idLeastSigBits;
+            this.names[size] = name;
+            this.salaries[size] = salary;
+            this.ages[size] = age;
+            this.titleCodes[size] = title != null ? titleCode(title) : NO_TITLE;
+            this.emails[size] = email;
+            size++;
+            return this;
+        }
+
+        /**
+         * Builds the snapshot, handing over this builder's arrays; the builder must not be used afterwards. Up to a
+         * quarter of spare capacity is kept for {@link #withChanges} to append into.
+         */
+        public EmployeeSnapshot build() {
+            if (salaries.length > headroom(size)) {
+                resize(headroom(size));
+            }
+            return new EmployeeSnapshot(this);
+        }
+
+        private int titleCode(String title) {
+            Integer code = titleDictionary.get(title);
+            if (code == null) {
+                code = titles.size();
+                titles.add(title);
+                titleDictionary.put(title, code);
+            }
+            return code;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= salaries.length) {
+                return;
+            }
+            resize(Math.max(Math.max(capacity, 16), salaries.length + (salaries.length >> 1)));
+        }
+
+        private void resize(int length) {
+            if (length == salaries.length) {
+                return;
+            }
+            idMostSigBits = Arrays.copyOf(idMostSigBits, length);
+            idLeastSigBits = Arrays.copyOf(idLeastSigBits, length);
+            salaries = Arrays.copyOf(salaries, length);
+            ages = Arrays.copyOf(ages, length);
+            titleCodes = Arrays.copyOf(titleCodes, length);
+            names = Arrays.copyOf(names, length);
+            emails = Arrays.copyOf(emails, length);
+        }
+    }
+}
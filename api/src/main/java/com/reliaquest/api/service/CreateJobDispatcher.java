@@ -0,0 +1,239 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateJob;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Drains the {@link CreateJobQueue} into the upstream with batch creates, one batch at a time, so bursts of accepted
+ * creates reach the upstream at the rate it can take them instead of failing.
+ *
+ * <ul>
+ *   <li>Nothing is sent while the {@code employee-service} circuit breaker is open.
+ *   <li>A failed batch stays queued and is retried after the upstream's {@code Retry-After}, or else after an
+ *       exponential backoff with jitter up to {@code max-backoff}.
+ *   <li>Each batch is sent with an {@code Idempotency-Key} that {@link CreateJobQueue} keeps with it until the
+ *       upstream answers, and is resent with exactly the same jobs, so a batch the upstream applied but whose answer
+ *       was lost is not created twice.
+ *   <li>Items the upstream rejects as invalid fail their job; the rest of that batch goes again without them.
+ * </ul>
+ *
+ * Stopping never interrupts the worker, which would close the queue's journal if it landed during a write or force;
+ * the worker notices the flag within a poll and is joined before the queue may close.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.api.write-behind.enabled", havingValue = "true")
+public class CreateJobDispatcher implements SmartLifecycle {
+
+    private static final long INITIAL_BACKOFF_MILLIS = 1000;
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final CreateJobQueue queue;
+    private final EmployeeService employeeService;
+    private final CircuitBreaker circuitBreaker;
+    private final int batchSize;
+    private final long maxBackoffMillis;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private final Object pause = new Object();
+    private long backoffMillis = INITIAL_BACKOFF_MILLIS;
+
+    public CreateJobDispatcher(
+            CreateJobQueue queue,
+            EmployeeService employeeService,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${employee.api.write-behind.batch-size:100}") int batchSize,
+            @Value("${employee.api.write-behind.max-backoff:60s}") Duration maxBackoff) {
+        this.queue = queue;
+        this.employeeService = employeeService;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("employee-service");
+        this.batchSize = batchSize;
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "employee-create-dispatcher");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        synchronized (pause) {
+            pause.notifyAll();
+        }
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(STOP_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Create dispatcher still busy after {}, leaving it to finish", STOP_TIMEOUT);
+        }
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        stop();
+        callback.run();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            long waitMillis;
+            try {
+                waitMillis = dispatchOnce();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // E.g. the journal failing; the batch in flight, if any, is resent as it was
+                waitMillis = backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+                log.error("Failed to dispatch queued creates, retrying in {} ms", waitMillis, e);
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+            }
+            try {
+                pause(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** Waits {@code millis}, or until {@link #stop}. */
+    private void pause(long millis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + millis;
+        synchronized (pause) {
+            for (long remaining = millis; running && remaining > 0; remaining = deadline - System.currentTimeMillis()) {
+                pause.wait(remaining);
+            }
+        }
+    }
+
+    /**
+     * Sends the next batch, if any, and returns how long to wait before the next one.
+     */
+    long dispatchOnce() throws InterruptedException {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+            log.debug("Circuit breaker is {}, holding {} queued creates", state, queue.size());
+            return INITIAL_BACKOFF_MILLIS;
+        }
+        Optional<CreateJobQueue.Batch> next = queue.next(batchSize, POLL_TIMEOUT);
+        if (next.isEmpty()) {
+            return 0;
+        }
+        CreateJobQueue.Batch batch = next.get();
+        List<CreateJobQueue.Pending> jobs = batch.jobs();
+
+        List<BatchItemResult> results;
+        try {
+            List<CreateEmployeeInput> inputs = jobs.stream().map(CreateJobQueue.Pending::input).toList();
+            results = employeeService.createEmployees(inputs, batch.key());
+        } catch (RuntimeException e) {
+            return backOff(jobs.size(), e);
+        }
+
+        List<CreateJob> outcomes = outcomes(jobs, results);
+        queue.finish(batch, outcomes);
+        if (outcomes.isEmpty()) {
+            return backOff(jobs.size(), null);
+        }
+        log.info("Dispatched {} of {} queued creates, {} remain", outcomes.size(), jobs.size(), queue.size());
+        backoffMillis = INITIAL_BACKOFF_MILLIS;
+        return 0;
+    }
+
+    private long backOff(int jobs, RuntimeException failure) {
+        long retryAfterMillis = retryAfterMillis(failure);
+        long waitMillis = retryAfterMillis > 0
+                ? retryAfterMillis
+                : backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+        log.warn(
+                "Batch of {} queued creates not applied, retrying in {} ms: {}",
+                jobs,
+                waitMillis,
+                failure != null ? failure.getMessage() : "no item was created or rejected");
+        backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+        return waitMillis;
+    }
+
+    /** Finished jobs for the batch; items the upstream skipped because of an invalid one stay queued. */
+    private static List<CreateJob> outcomes(List<CreateJobQueue.Pending> batch, List<BatchItemResult> results) {
+        Instant now = Instant.now();
+        List<CreateJob> outcomes = new ArrayList<>(results.size());
+        for (BatchItemResult result : results) {
+            if (result.getIndex() < 0 || result.getIndex() >= batch.size()) {
+                continue;
+            }
+            UUID id = batch.get(result.getIndex()).id();
+            if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                outcomes.add(CreateJob.builder()
+                        .id(id)
+                        .status(CreateJob.Status.CREATED)
+                        .employee(result.getEmployee())
+                        .completedAt(now)
+                        .build());
+            } else if (result.getStatus() == BatchItemResult.Status.INVALID) {
+                outcomes.add(CreateJob.builder()
+                        .id(id)
+                        .status(CreateJob.Status.FAILED)
+                        .error(result.getError())
+                        .completedAt(now)
+                        .build());
+            }
+        }
+        return outcomes;
+    }
+
+    /** The upstream's {@code Retry-After} in seconds anywhere in the cause chain, in millis, or 0. */
+    private long retryAfterMillis(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusCodeException statusException
+                    && statusException.getResponseHeaders() != null) {
+                String retryAfter = statusException.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+                if (retryAfter != null) {
+                    try {
+                        return Math.min(Long.parseLong(retryAfter.trim()) * 1000, maxBackoffMillis);
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+}
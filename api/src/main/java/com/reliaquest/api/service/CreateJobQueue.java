@@ -0,0 +1,441 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, persistent FIFO of employee creates accepted by {@code POST /api/v1/employee/jobs}, drained by
+ * {@link CreateJobDispatcher}.
+ *
+ * <p>Every accepted job and every outcome is appended to a JSON-lines journal in {@code directory}, forced to disk
+ * before the caller is answered, so jobs accepted before a crash or restart are dispatched after it. A job leaves the
+ * queue only once its outcome is on disk. Lines are written under the queue's lock but forced outside it, one force
+ * covering every line written meanwhile (group commit), so concurrent submits share an fsync instead of queueing behind
+ * each other's, and never hold up the dispatcher while they wait. The journal is rewritten to just the queued jobs when
+ * it has grown well past them, and on startup, which also drops a line torn by a crash.
+ *
+ * <p>The batch handed to the dispatcher is journaled with its idempotency key and handed out unchanged, even after a
+ * restart, until the upstream has answered it, so jobs submitted meanwhile never change a batch that may already have
+ * been applied.
+ *
+ * <p>Outcomes are answered from memory for {@code result-ttl}; after a restart only queued jobs are known.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "employee.api.write-behind.enabled", havingValue = "true")
+public class CreateJobQueue implements AutoCloseable {
+
+    private static final String JOURNAL_FILE = "create-jobs.log";
+    private static final int MIN_COMPACTION_ENTRIES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Path journalPath;
+    private final int capacity;
+    private final boolean fsync;
+    private final Cache<UUID, CreateJob> finished;
+    // Queued jobs in submission order, and their status for readers that do not take the lock
+    private final LinkedHashMap<UUID, CreateEmployeeInput> pending = new LinkedHashMap<>();
+    private final Map<UUID, CreateJob> queued = new ConcurrentHashMap<>();
+    private final Object forceLock = new Object();
+
+    // Guarded by this; writes counts the writes to the journal, numbering each
+    private FileChannel journal;
+    private long journalEntries;
+    private long writes;
+    private Batch inFlight;
+    private long inFlightWrite;
+
+    // Guarded by forceLock: the last write known to be on disk, and whether a caller is forcing the journal
+    private long forcedWrite;
+    private boolean forcing;
+
+    public CreateJobQueue(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${employee.api.write-behind.directory:data}") Path directory,
+            @Value("${employee.api.write-behind.capacity:10000}") int capacity,
+            @Value("${employee.api.write-behind.fsync:true}") boolean fsync,
+            @Value("${employee.api.write-behind.result-ttl:1h}") Duration resultTtl)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.capacity = capacity;
+        this.fsync = fsync;
+        this.finished = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(resultTtl)
+                .build();
+        Files.createDirectories(directory);
+        recover();
+        synchronized (this) {
+            compact();
+        }
+        Gauge.builder("employees.create.queue.depth", this, CreateJobQueue::size)
+                .description("Employee creates accepted but not yet applied upstream")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Accepts a create, durably when fsync is on, and returns its job in the {@code QUEUED} state.
+     *
+     * @throws WriteQueueFullException if {@code capacity} jobs are already queued
+     */
+    public CreateJob submit(CreateEmployeeInput input) {
+        CreateJob job = CreateJob.builder()
+                .id(UUID.randomUUID())
+                .status(CreateJob.Status.QUEUED)
+                .submittedAt(Instant.now())
+                .build();
+        long write;
+        synchronized (this) {
+            if (pending.size() >= capacity) {
+                throw new WriteQueueFullException(capacity);
+            }
+            write = append(List.of(new JournalEntry(job, input, null)));
+            pending.put(job.getId(), input);
+            queued.put(job.getId(), job);
+            notifyAll();
+        }
+        awaitForced(write);
+        return job;
+    }
+
+    public Optional<CreateJob> status(UUID id) {
+        CreateJob job = queued.get(id);
+        return job != null ? Optional.of(job) : Optional.ofNullable(finished.getIfPresent(id));
+    }
+
+    public synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * The batch still waiting for an answer, or else up to {@code max} of the oldest queued jobs under a new key,
+     * waiting up to {@code timeout} for one to arrive. The batch, and so every job in it, is on disk before it is
+     * returned. The jobs stay queued until {@link #finish} records their outcome.
+     */
+    Optional<Batch> next(int max, Duration timeout) throws InterruptedException {
+        Batch batch;
+        long write;
+        synchronized (this) {
+            if (inFlight == null) {
+                long deadline = System.nanoTime() + timeout.toNanos();
+                while (pending.isEmpty()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return Optional.empty();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+                List<Pending> jobs = new ArrayList<>(Math.min(max, pending.size()));
+                for (Map.Entry<UUID, CreateEmployeeInput> entry : pending.entrySet()) {
+                    if (jobs.size() == max) {
+                        break;
+                    }
+                    jobs.add(new Pending(entry.getKey(), entry.getValue()));
+                }
+                Batch created = new Batch(UUID.randomUUID().toString(), jobs);
+                inFlightWrite = append(List.of(new JournalEntry(null, null, InFlight.of(created))));
+                inFlight = created;
+            }
+            batch = inFlight;
+            write = inFlightWrite;
+        }
+        awaitForced(write);
+        return Optional.of(batch);
+    }
+
+    /**
+     * Records that the upstream answered {@code batch}, with the outcomes of its finished jobs in one write to the
+     * journal, then removes those jobs from the queue once it is on disk. Jobs left over go out in a new batch.
+     */
+    void finish(Batch batch, List<CreateJob> outcomes) {
+        List<CreateJob> jobs = new ArrayList<>(outcomes.size());
+        long write;
+        synchronized (this) {
+            if (outcomes.isEmpty()) {
+                release(batch);
+                return;
+            }
+            for (CreateJob outcome : outcomes) {
+                CreateJob accepted = queued.get(outcome.getId());
+                jobs.add(
+                        accepted != null
+                                ? outcome.toBuilder()
+                                        .submittedAt(accepted.getSubmittedAt())
+                                        .build()
+                                : outcome);
+            }
+            write = append(jobs.stream().map(job -> new JournalEntry(job, null, null)).toList());
+        }
+        awaitForced(write);
+        synchronized (this) {
+            release(batch);
+            for (CreateJob job : jobs) {
+                pending.remove(job.getId());
+                queued.remove(job.getId());
+                finished.put(job.getId(), job);
+            }
+            if (journalEntries > Math.max(MIN_COMPACTION_ENTRIES, 2L * pending.size())) {
+                compact();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            if (fsync) {
+                journal.force(false);
+            }
+            journal.close();
+            journal = null;
+            markForced(writes);
+        }
+    }
+
+    private void release(Batch batch) {
+        if (inFlight != null && inFlight.key().equals(batch.key())) {
+            inFlight = null;
+        }
+    }
+
+    private void recover() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        int lineNumber = 0;
+        InFlight pinned = null;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                JournalEntry entry;
+                try {
+                    entry = objectMapper.readValue(line, JournalEntry.class);
+                } catch (JsonProcessingException e) {
+                    // Only the last line can be torn by a crash; anything after it was never acknowledged
+                    log.warn("Ignoring create job journal from line {} on: {}", lineNumber, e.getOriginalMessage());
+                    break;
+                }
+                if (entry.batch() != null) {
+                    pinned = entry.batch();
+                    continue;
+                }
+                UUID id = entry.job().getId();
+                if (entry.input() != null) {
+                    pending.put(id, entry.input());
+                    queued.put(id, entry.job());
+                } else {
+                    pending.remove(id);
+                    queued.remove(id);
+                    finished.put(id, entry.job());
+                    if (pinned != null && pinned.jobs().contains(id)) {
+                        // An outcome for one of its jobs means the upstream answered the batch
+                        pinned = null;
+                    }
+                }
+            }
+        }
+        if (pinned != null && pending.keySet().containsAll(pinned.jobs())) {
+            inFlight = new Batch(
+                    pinned.key(),
+                    pinned.jobs().stream().map(id -> new Pending(id, pending.get(id))).toList());
+        }
+        log.info("Recovered {} queued employee creates from {}", pending.size(), journalPath);
+    }
+
+    /** Rewrites the journal to just the queued jobs and the batch in flight, atomically replacing the old one. */
+    private void compact() {
+        Path tmp = journalPath.resolveSibling(JOURNAL_FILE + ".tmp");
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+            List<JournalEntry> entries = new ArrayList<>(pending.size() + 1);
+            pending.forEach((id, input) -> entries.add(new JournalEntry(queued.get(id), input, null)));
+            if (inFlight != null) {
+                entries.add(new JournalEntry(null, null, InFlight.of(inFlight)));
+            }
+            try (FileChannel out = FileChannel.open(
+                    tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeFully(out, encode(entries));
+                out.force(true);
+            }
+            Files.move(tmp, journalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            journal = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            journalEntries = entries.size();
+            // Everything written before is in the new journal, which is on disk
+            markForced(writes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact " + journalPath, e);
+        }
+    }
+
+    /** Writes {@code entries} to the journal without forcing it and returns the write's number. */
+    private long append(List<JournalEntry> entries) {
+        try {
+            writeFully(journal, encode(entries));
+            journalEntries += entries.size();
+            return ++writes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + journalPath, e);
+        }
+    }
+
+    /**
+     * Returns once {@code write} is on disk, when fsync is on. A caller finding no force under way forces everything
+     * written so far; one arriving during a force waits for it, and forces again only if its write came too late.
+     * Called without holding this, so other callers can write meanwhile.
+     */
+    private void awaitForced(long write) {
+        if (!fsync) {
+            return;
+        }
+        boolean interrupted = false;
+        try {
+            while (true) {
+                synchronized (forceLock) {
+                    while (forcing && forcedWrite < write) {
+                        try {
+                            forceLock.wait();
+                        } catch (InterruptedException e) {
+                            // The write is already accepted, so see it to disk and leave the interrupt to the caller
+                            interrupted = true;
+                        }
+                    }
+                    if (forcedWrite >= write) {
+                        return;
+                    }
+                    forcing = true;
+                }
+                force();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void force() {
+        long target;
+        FileChannel channel;
+        synchronized (this) {
+            target = writes;
+            channel = journal;
+        }
+        long forced = 0;
+        try {
+            if (channel != null) {
+                channel.force(false);
+                forced = target;
+            }
+        } catch (ClosedChannelException e) {
+            if (reopenIfClosedUnderUs(channel)) {
+                throw new UncheckedIOException("Create job journal was closed before it was forced", e);
+            }
+            // Compacted or closed meanwhile, which marked everything written so far as forced
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to force " + journalPath, e);
+        } finally {
+            synchronized (forceLock) {
+                forcing = false;
+                forcedWrite = Math.max(forcedWrite, forced);
+                forceLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Opens the journal again if {@code channel}, found closed, is still the journal: something closed it under a
+     * writer, e.g. an interrupt during I/O, rather than a compaction or {@link #close} replacing it. What was written
+     * to it is in the file, and goes to disk with the next force of the reopened channel.
+     */
+    private synchronized boolean reopenIfClosedUnderUs(FileChannel channel) {
+        if (journal != channel) {
+            return false;
+        }
+        try {
+            journal = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to reopen {}", journalPath, e);
+        }
+        return true;
+    }
+
+    private void markForced(long write) {
+        synchronized (forceLock) {
+            forcedWrite = Math.max(forcedWrite, write);
+            forceLock.notifyAll();
+        }
+    }
+
+    private ByteBuffer encode(List<JournalEntry> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * entries.size());
+        for (JournalEntry entry : entries) {
+            out.write(objectMapper.writeValueAsBytes(entry));
+            out.write('\n');
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /** A queued create handed to the dispatcher. */
+    record Pending(UUID id, CreateEmployeeInput input) {}
+
+    /** Queued creates handed to the dispatcher together, and the idempotency key they are sent with. */
+    record Batch(String key, List<Pending> jobs) {}
+
+    /**
+     * A journal line: a job with its input when accepted, a job with its outcome and no input when finished, or the
+     * batch handed to the dispatcher.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record JournalEntry(CreateJob job, CreateEmployeeInput input, InFlight batch) {}
+
+    private record InFlight(String key, List<UUID> jobs) {
+
+        static InFlight of(Batch batch) {
+            return new InFlight(batch.key(), batch.jobs().stream().map(Pending::id).toList());
+        }
+    }
+}
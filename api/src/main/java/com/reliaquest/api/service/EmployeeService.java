@@ -1,31 +1,50 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.KnownEmployeeIds;
+import com.reliaquest.api.cache.TieredCache;
+import com.reliaquest.api.client.EmployeePayloadParser;
+import com.reliaquest.api.client.EmployeeQueryClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ExternalServiceException;
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.CompactStrings;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeSnapshot;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
@@ -36,12 +55,45 @@ import org.springframework.web.client.RestTemplate;
 @Slf4j
 public class EmployeeService {
 
+    // Resolved once instead of an anonymous subclass (and generic type resolution) per call
+    private static final ParameterizedTypeReference<ApiResponse<Employee>> EMPLOYEE_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<Boolean>> BOOLEAN_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<EmployeeChanges>> CHANGES_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<List<BatchItemResult>>> BATCH_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    // Smile when the upstream offers it, JSON otherwise
+    private static final List<MediaType> SMILE_OR_JSON =
+            List.of(EmployeePayloadParser.SMILE, MediaType.APPLICATION_JSON);
+
+    // Change log position the mock server sends with the full list
+    private static final String VERSION_HEADER = "X-Employee-Version";
+    private static final String EPOCH_HEADER = "X-Employee-Epoch";
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final RestTemplate restTemplate;
     private final MeterRegistry meterRegistry;
+    private final EmployeePayloadParser payloadParser;
+    private final KnownEmployeeIds knownEmployeeIds;
+    private final EmployeeQueryClient queryClient;
+    private final CacheManager cacheManager;
 
     @Value("${employee.api.base-url:http://localhost:8112/api/v1/employee}")
     private String baseUrl;
 
+    @Value("${employee.api.delta-sync.enabled:true}")
+    private boolean deltaSyncEnabled;
+
+    @Value("${employee.api.client.smile.enabled:true}")
+    private boolean smileEnabled;
+
+    /** The last list together with the upstream change log position it reflects; null until one is known. */
+    private volatile SyncedList syncedList;
+
     @Retry(name = "employee-service", fallbackMethod = "getAllEmployeesFallback")
     @CircuitBreaker(name = "employee-service", fallbackMethod = "getAllEmployeesFallback")
     @RateLimiter(name = "employee-service")
@@ -57,13 +109,17 @@ public class EmployeeService {
 
     private List<Employee> fetchAllEmployees() {
         Timer.Sample sample = Timer.start(meterRegistry);
+        // Taken before the request, so a create or delete racing this fetch marks the list as too old for id lookups
+        long listVersion = knownEmployeeIds.version();
         try {
-            log.debug("Fetching all employees from {}", baseUrl);
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+            EmployeeSnapshot employees = deltaSyncEnabled ? fetchChangesSinceLastList(listVersion) : null;
+            boolean fullList = employees == null;
+            if (fullList) {
+                employees = fetchFullList();
+            }
 
-            if (response.getBody() != null && response.getBody().getData() != null) {
-                int employeeCount = response.getBody().getData().size();
+            if (employees != null) {
+                int employeeCount = employees.size();
                 log.info("Successfully fetched {} employees", employeeCount);
 
                 // Record metrics
@@ -73,7 +129,10 @@ public class EmployeeService {
                         .register(meterRegistry)
                         .increment();
 
-                return response.getBody().getData();
+                if (fullList) {
+                    knownEmployeeIds.rebuild(employees, listVersion);
+                }
+                return employees;
             }
             return Collections.emptyList();
         } catch (Exception e) {
@@ -90,9 +149,130 @@ public class EmployeeService {
         }
     }
 
+    private EmployeeSnapshot fetchFullList() {
+        log.debug("Fetching all employees from {}", baseUrl);
+        return restTemplate.execute(
+                baseUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders()
+                        .setAccept(smileEnabled ? SMILE_OR_JSON : List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    EmployeeSnapshot employees = payloadParser.readEmployeeList(
+                            response.getBody(), response.getHeaders().getContentType());
+                    rememberListPosition(employees, response.getHeaders());
+                    return employees;
+                });
+    }
+
+    private void rememberListPosition(EmployeeSnapshot employees, HttpHeaders headers) {
+        String version = headers.getFirst(VERSION_HEADER);
+        String epoch = headers.getFirst(EPOCH_HEADER);
+        syncedList = employees != null && version != null && epoch != null
+                ? new SyncedList(employees, epoch, Long.parseLong(version))
+                : null;
+    }
+
+    /**
+     * Brings the last list up to date from the upstream change log, so a refresh costs as much as the changes since the
+     * last one rather than the whole list; the known ids move on by the same changes. Returns null when only a full
+     * fetch can: nothing to continue from, the log no longer reaches back far enough, or the upstream restarted.
+     */
+    private EmployeeSnapshot fetchChangesSinceLastList(long listVersion) {
+        SyncedList base = syncedList;
+        if (base == null) {
+            return null;
+        }
+        ResponseEntity<ApiResponse<EmployeeChanges>> response;
+        try {
+            log.debug("Fetching employee changes since version {}", base.version());
+            response = restTemplate.exchange(
+                    baseUrl + "/changes?since=" + base.version(), HttpMethod.GET, null, CHANGES_RESPONSE);
+        } catch (HttpClientErrorException.NotFound e) {
+            log.info("Upstream has no change log, falling back to full list fetches");
+            syncedList = null;
+            return null;
+        }
+        EmployeeChanges changes = response.getBody() != null ? response.getBody().getData() : null;
+        if (changes == null || changes.isTruncated() || !base.epoch().equals(changes.getEpoch())) {
+            log.info("Upstream change log cannot continue from version {}, fetching the full list", base.version());
+            return null;
+        }
+        EmployeeSnapshot employees = base.employees().withChanges(changes.getChanges());
+        syncedList = new SyncedList(employees, changes.getEpoch(), changes.getVersion());
+        knownEmployeeIds.advance(employees, changes.getChanges(), listVersion);
+        log.debug("Applied {} employee changes up to version {}", changes.getChanges().size(), changes.getVersion());
+        return employees;
+    }
+
+    /**
+     * Applies a change pushed by the upstream to the last list, the known ids, and the cached list if that is the last
+     * list, so the next read needs no refresh. A change already applied is ignored. Returns false when the cached list
+     * could not be brought up to date, e.g. because changes before this one were missed, in which case the caller
+     * should drop it.
+     */
+    public synchronized boolean applyChange(String epoch, EmployeeChange change) {
+        SyncedList base = syncedList;
+        if (base == null || !base.epoch().equals(epoch) || change.getVersion() > base.version() + 1) {
+            return false;
+        }
+        if (change.getVersion() <= base.version()) {
+            return true;
+        }
+        EmployeeSnapshot employees = base.employees().withChanges(List.of(change));
+        syncedList = new SyncedList(employees, epoch, change.getVersion());
+        knownEmployeeIds.applyPushed(base.employees(), employees, List.of(change));
+        List<Employee> cached = cachedEmployees();
+        if (cached == null) {
+            return true;
+        }
+        if (cached != base.employees()) {
+            return false;
+        }
+        Cache cache = cacheManager.getCache("employees");
+        if (cache instanceof TieredCache tiered) {
+            // Encoding the whole list off-heap again would cost far more than the change itself
+            tiered.putL1(SimpleKey.EMPTY, employees);
+        } else {
+            cache.put(SimpleKey.EMPTY, employees);
+        }
+        return true;
+    }
+
+    /**
+     * The employee list if {@link #getAllEmployees()} has it cached, so a query can be answered locally; null when the
+     * cache is cold and the answer would cost an upstream call either way.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Employee> cachedEmployees() {
+        Cache employees = cacheManager.getCache("employees");
+        Object cached = employees != null ? peek(employees, SimpleKey.EMPTY) : null;
+        return (List<Employee>) cached;
+    }
+
+    /**
+     * Reads a cache entry without counting a hit or miss, so checking for a warm list does not skew the cache's hit
+     * ratio; only caches that cannot be read quietly fall back to a regular read.
+     */
+    private static Object peek(Cache cache, Object key) {
+        if (cache instanceof CaffeineCache caffeine) {
+            return caffeine.getNativeCache().policy().getIfPresentQuietly(key);
+        }
+        Cache.ValueWrapper wrapper = cache instanceof TieredCache tiered ? tiered.peek(key) : cache.get(key);
+        return wrapper != null ? wrapper.get() : null;
+    }
+
     public List<Employee> searchEmployeesByName(String searchString) {
         log.debug("Searching employees by name: {}", searchString);
-        List<Employee> allEmployees = getAllEmployees();
+        List<Employee> allEmployees = cachedEmployees();
+        if (allEmployees == null) {
+            if (queryClient.isEnabled()) {
+                return queryClient.searchByName(searchString);
+            }
+            allEmployees = getAllEmployees();
+        }
+        if (allEmployees instanceof EmployeeSnapshot snapshot) {
+            return snapshot.searchByName(searchString.toLowerCase());
+        }
         return allEmployees.stream()
                 .filter(emp ->
                         emp.getName() != null && emp.getName().toLowerCase().contains(searchString.toLowerCase()))
@@ -102,7 +282,7 @@ public class EmployeeService {
     @Retry(name = "employee-service", fallbackMethod = "getEmployeeByIdFallback")
     @CircuitBreaker(name = "employee-service", fallbackMethod = "getEmployeeByIdFallback")
     @RateLimiter(name = "employee-service")
-    @Cacheable(value = "employee-by-id", key = "#id", unless = "#result.isEmpty()")
+    @Cacheable(value = "employee-by-id", key = "#id", unless = "#result == null")
     public Optional<Employee> getEmployeeById(String id) {
         return fetchEmployeeById(id);
     }
@@ -113,13 +293,19 @@ public class EmployeeService {
     }
 
     private Optional<Employee> fetchEmployeeById(String id) {
+        if (knownEmployeeIds.isDefinitelyAbsent(id)) {
+            log.debug("Employee {} is known not to exist, answering without an upstream call", id);
+            return Optional.empty();
+        }
+        Optional<Employee> fromList = knownEmployeeIds.lookup(id);
+        if (fromList.isPresent()) {
+            log.debug("Employee {} served from the last list fetch", id);
+            return fromList;
+        }
         try {
             log.debug("Fetching employee by id: {}", id);
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    baseUrl + "/" + id,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+            ResponseEntity<ApiResponse<Employee>> response =
+                    restTemplate.exchange(baseUrl + "/" + id, HttpMethod.GET, null, EMPLOYEE_RESPONSE);
 
             if (response.getBody() != null && response.getBody().getData() != null) {
                 log.info("Successfully fetched employee with id: {}", id);
@@ -128,6 +314,7 @@ public class EmployeeService {
             return Optional.empty();
         } catch (HttpClientErrorException.NotFound e) {
             log.warn("Employee not found with id: {}", id);
+            knownEmployeeIds.recordMissing(UUID.fromString(id));
             return Optional.empty();
         } catch (Exception e) {
             log.error("Error fetching employee by id: {}", id, e);
@@ -137,7 +324,16 @@ public class EmployeeService {
 
     public Integer getHighestSalary() {
         log.debug("Calculating highest salary");
-        List<Employee> employees = getAllEmployees();
+        List<Employee> employees = cachedEmployees();
+        if (employees == null) {
+            if (queryClient.isEnabled()) {
+                return queryClient.highestSalary();
+            }
+            employees = getAllEmployees();
+        }
+        if (employees instanceof EmployeeSnapshot snapshot) {
+            return snapshot.highestSalary().orElse(0);
+        }
         return employees.stream()
                 .map(Employee::getSalary)
                 .filter(salary -> salary != null)
@@ -147,7 +343,16 @@ public class EmployeeService {
 
     public List<String> getTop10HighestEarningEmployeeNames() {
         log.debug("Getting top 10 highest earning employees");
-        List<Employee> employees = getAllEmployees();
+        List<Employee> employees = cachedEmployees();
+        if (employees == null) {
+            if (queryClient.isEnabled()) {
+                return queryClient.topEarnerNames(10);
+            }
+            employees = getAllEmployees();
+        }
+        if (employees instanceof EmployeeSnapshot snapshot) {
+            return snapshot.topEarnerNames(10);
+        }
         return employees.stream()
                 .filter(emp -> emp.getSalary() != null)
                 .sorted(Comparator.comparing(Employee::getSalary).reversed())
@@ -156,25 +361,33 @@ public class EmployeeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Creates an employee. The {@code idempotencyKey}, if any, is sent upstream with every attempt, so a retry of a
+     * request the upstream already applied returns that employee instead of creating a second one.
+     */
     @Retry(name = "employee-service", fallbackMethod = "createEmployeeFallback")
     @CircuitBreaker(name = "employee-service", fallbackMethod = "createEmployeeFallback")
     @RateLimiter(name = "employee-service")
     @CacheEvict(value = "employees", allEntries = true)
-    public Employee createEmployee(CreateEmployeeInput input) {
-        return performCreateEmployee(input);
+    public Employee createEmployee(CreateEmployeeInput input, String idempotencyKey) {
+        return performCreateEmployee(input, idempotencyKey);
     }
 
-    public Employee createEmployeeFallback(CreateEmployeeInput input, Exception e) {
+    public Employee createEmployeeFallback(CreateEmployeeInput input, String idempotencyKey, Exception e) {
         log.error("Circuit breaker fallback for createEmployee. Error: {}", e.getMessage());
         throw new ExternalServiceException("Mock Employee API", "Service unavailable - circuit breaker open", e);
     }
 
-    private Employee performCreateEmployee(CreateEmployeeInput input) {
+    private Employee performCreateEmployee(CreateEmployeeInput input, String idempotencyKey) {
         try {
             log.debug("Creating employee: {}", input);
-            HttpEntity<CreateEmployeeInput> request = new HttpEntity<>(input);
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.POST, request, new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+            HttpHeaders headers = new HttpHeaders();
+            if (idempotencyKey != null) {
+                headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+            }
+            HttpEntity<CreateEmployeeInput> request = new HttpEntity<>(input, headers);
+            ResponseEntity<ApiResponse<Employee>> response =
+                    restTemplate.exchange(baseUrl, HttpMethod.POST, request, EMPLOYEE_RESPONSE);
 
             if (response.getBody() != null && response.getBody().getData() != null) {
                 log.info(
@@ -187,7 +400,11 @@ public class EmployeeService {
                         .register(meterRegistry)
                         .increment();
 
-                return response.getBody().getData();
+                Employee created = response.getBody().getData();
+                if (created.getId() != null) {
+                    knownEmployeeIds.recordCreated(created.getId());
+                }
+                return created;
             }
             throw new ExternalServiceException("Mock Employee API", "Failed to create employee - no data in response");
         } catch (Exception e) {
@@ -231,12 +448,18 @@ public class EmployeeService {
             deleteRequest.put("name", employeeName);
             HttpEntity<Map<String, String>> request = new HttpEntity<>(deleteRequest);
 
-            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                    baseUrl, HttpMethod.DELETE, request, new ParameterizedTypeReference<ApiResponse<Boolean>>() {});
+            ResponseEntity<ApiResponse<Boolean>> response =
+                    restTemplate.exchange(baseUrl, HttpMethod.DELETE, request, BOOLEAN_RESPONSE);
 
             if (response.getBody() != null
                     && Boolean.TRUE.equals(response.getBody().getData())) {
                 log.info("Successfully deleted employee with id: {}", id);
+                if (isOnlyEmployeeNamed(employeeName)) {
+                    knownEmployeeIds.recordDeleted(UUID.fromString(id));
+                } else {
+                    // The upstream deletes the oldest employee with the name, which need not be the one asked for
+                    knownEmployeeIds.invalidate();
+                }
                 return employeeName;
             }
             throw new ExternalServiceException("Mock Employee API", "Failed to delete employee");
@@ -247,4 +470,214 @@ public class EmployeeService {
             throw new ExternalServiceException("Mock Employee API", "Failed to delete employee", e);
         }
     }
+
+    /**
+     * Whether the last list holds exactly one employee named {@code name}, ignoring case as the upstream does, so a
+     * delete by that name removes that employee; false when there is no list to tell.
+     */
+    private boolean isOnlyEmployeeNamed(String name) {
+        List<Employee> employees = cachedEmployees();
+        if (employees == null) {
+            SyncedList base = syncedList;
+            employees = base != null ? base.employees() : null;
+        }
+        if (employees == null || name == null) {
+            return false;
+        }
+        int count = 0;
+        if (employees instanceof EmployeeSnapshot snapshot) {
+            String lowerCaseName = name.toLowerCase();
+            for (int i = 0; i < snapshot.size() && count < 2; i++) {
+                // The byte-level containment check spares decoding names that cannot match
+                if (CompactStrings.containsIgnoreCase(snapshot.nameBytes(i), lowerCaseName)
+                        && name.equalsIgnoreCase(snapshot.name(i))) {
+                    count++;
+                }
+            }
+        } else {
+            count = (int) employees.stream()
+                    .filter(employee -> name.equalsIgnoreCase(employee.getName()))
+                    .limit(2)
+                    .count();
+        }
+        return count == 1;
+    }
+
+    /**
+     * Creates all employees in one upstream call, which applies all of them or none. When the upstream rejects the
+     * batch the results say which items are {@code INVALID}; the rest are {@code SKIPPED}. The {@code idempotencyKey}
+     * is sent with every attempt, as for {@link #createEmployee}.
+     */
+    @Retry(name = "employee-service", fallbackMethod = "createEmployeesFallback")
+    @CircuitBreaker(name = "employee-service", fallbackMethod = "createEmployeesFallback")
+    @RateLimiter(name = "employee-service")
+    @CacheEvict(value = "employees", allEntries = true)
+    public List<BatchItemResult> createEmployees(List<CreateEmployeeInput> inputs, String idempotencyKey) {
+        return performCreateEmployees(inputs, idempotencyKey);
+    }
+
+    public List<BatchItemResult> createEmployeesFallback(
+            List<CreateEmployeeInput> inputs, String idempotencyKey, Exception e) {
+        log.error("Circuit breaker fallback for createEmployees. Error: {}", e.getMessage());
+        throw new ExternalServiceException("Mock Employee API", "Service unavailable - circuit breaker open", e);
+    }
+
+    private List<BatchItemResult> performCreateEmployees(List<CreateEmployeeInput> inputs, String idempotencyKey) {
+        try {
+            log.debug("Creating {} employees", inputs.size());
+            HttpHeaders headers = new HttpHeaders();
+            if (idempotencyKey != null) {
+                headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+            }
+            List<BatchItemResult> results;
+            try {
+                results = batchResults(restTemplate.exchange(
+                                baseUrl + "/batch", HttpMethod.POST, new HttpEntity<>(inputs, headers), BATCH_RESPONSE)
+                        .getBody());
+            } catch (HttpClientErrorException.BadRequest e) {
+                // A rejected batch still reports which items were invalid
+                results = batchResults(e.getResponseBodyAs(BATCH_RESPONSE));
+            }
+
+            int created = 0;
+            for (BatchItemResult result : results) {
+                if (result.getStatus() == BatchItemResult.Status.CREATED
+                        && result.getEmployee() != null
+                        && result.getEmployee().getId() != null) {
+                    knownEmployeeIds.recordCreated(result.getEmployee().getId());
+                    created++;
+                }
+            }
+            log.info("Created {} of {} employees", created, inputs.size());
+            Counter.builder("employees.created")
+                    .description("Number of employees created")
+                    .register(meterRegistry)
+                    .increment(created);
+            return results;
+        } catch (Exception e) {
+            Counter.builder("employees.create.error")
+                    .description("Number of failed employee creation operations")
+                    .register(meterRegistry)
+                    .increment();
+            log.error("Error creating employees", e);
+            throw new ExternalServiceException("Mock Employee API", "Failed to create employees", e);
+        }
+    }
+
+    /**
+     * Deletes the employees with the given ids in one upstream call, with a result per id in request order: ids that
+     * are not UUIDs are {@code INVALID}, repeated ids {@code SKIPPED}, and unknown ones {@code NOT_FOUND}. Ids are
+     * resolved to names from the last list when it is still authoritative, otherwise from one fresh list fetch.
+     */
+    @Retry(name = "employee-service", fallbackMethod = "deleteEmployeesByIdFallback")
+    @CircuitBreaker(name = "employee-service", fallbackMethod = "deleteEmployeesByIdFallback")
+    @RateLimiter(name = "employee-service")
+    @CacheEvict(
+            value = {"employees", "employee-by-id"},
+            allEntries = true)
+    public List<BatchItemResult> deleteEmployeesById(List<String> ids) {
+        return performDeleteEmployees(ids);
+    }
+
+    public List<BatchItemResult> deleteEmployeesByIdFallback(List<String> ids, Exception e) {
+        log.error("Circuit breaker fallback for deleteEmployeesById. Error: {}", e.getMessage());
+        throw new ExternalServiceException("Mock Employee API", "Service unavailable - circuit breaker open", e);
+    }
+
+    private List<BatchItemResult> performDeleteEmployees(List<String> ids) {
+        try {
+            BatchItemResult[] results = new BatchItemResult[ids.size()];
+            Employee[] targets = new Employee[ids.size()];
+            Set<UUID> seen = new HashSet<>();
+            List<Employee> allEmployees = null;
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(id);
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    results[i] = batchResult(i, BatchItemResult.Status.INVALID, "id must be a UUID");
+                    continue;
+                }
+                if (!seen.add(uuid)) {
+                    results[i] = batchResult(i, BatchItemResult.Status.SKIPPED, "duplicate id");
+                    continue;
+                }
+                Employee target = knownEmployeeIds.lookup(id).orElse(null);
+                if (target == null) {
+                    if (allEmployees == null) {
+                        allEmployees = fetchAllEmployees();
+                    }
+                    target = find(allEmployees, uuid);
+                }
+                if (target == null) {
+                    results[i] = batchResult(i, BatchItemResult.Status.NOT_FOUND, null);
+                } else {
+                    targets[i] = target;
+                }
+            }
+
+            // The mock API deletes by name; rows of the request map back to input positions
+            List<Map<String, String>> deleteRequest = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            for (int i = 0; i < targets.length; i++) {
+                if (targets[i] != null) {
+                    deleteRequest.add(Map.of("name", targets[i].getName()));
+                    positions.add(i);
+                }
+            }
+            if (!deleteRequest.isEmpty()) {
+                log.debug("Deleting {} employees", deleteRequest.size());
+                List<BatchItemResult> upstream = batchResults(restTemplate.exchange(
+                                baseUrl + "/batch", HttpMethod.DELETE, new HttpEntity<>(deleteRequest), BATCH_RESPONSE)
+                        .getBody());
+                for (BatchItemResult result : upstream) {
+                    int position = positions.get(result.getIndex());
+                    result.setIndex(position);
+                    results[position] = result;
+                    if (result.getStatus() == BatchItemResult.Status.DELETED) {
+                        // The upstream deletes the oldest employee with the name, which need not be the one asked for
+                        UUID deleted = result.getEmployee() != null
+                                ? result.getEmployee().getId()
+                                : targets[position].getId();
+                        knownEmployeeIds.recordDeleted(deleted);
+                        if (!targets[position].getId().equals(deleted)) {
+                            result.setStatus(BatchItemResult.Status.MISMATCH);
+                            result.setError("deleted employee " + deleted + " with the same name instead");
+                        }
+                    }
+                }
+            }
+            log.info("Deleted employees for {} of {} ids", deleteRequest.size(), ids.size());
+            return List.of(results);
+        } catch (Exception e) {
+            log.error("Error deleting employees", e);
+            throw new ExternalServiceException("Mock Employee API", "Failed to delete employees", e);
+        }
+    }
+
+    private static List<BatchItemResult> batchResults(ApiResponse<List<BatchItemResult>> response) {
+        if (response == null || response.getData() == null) {
+            throw new ExternalServiceException(
+                    "Mock Employee API", response != null ? response.getError() : "No data in batch response");
+        }
+        return response.getData();
+    }
+
+    private static BatchItemResult batchResult(int index, BatchItemResult.Status status, String error) {
+        return BatchItemResult.builder().index(index).status(status).error(error).build();
+    }
+
+    private static Employee find(List<Employee> employees, UUID id) {
+        if (employees instanceof EmployeeSnapshot snapshot) {
+            int row = snapshot.indexOf(id);
+            return row < 0 ? null : snapshot.get(row);
+        }
+        return employees.stream()
+                .filter(employee -> id.equals(employee.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private record SyncedList(EmployeeSnapshot employees, String epoch, long version) {}
 }
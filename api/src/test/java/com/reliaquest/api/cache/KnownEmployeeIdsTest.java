@@ -0,0 +1,85 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KnownEmployeeIdsTest {
+
+    private final KnownEmployeeIds knownIds = new KnownEmployeeIds(Duration.ofMinutes(1), Duration.ofSeconds(30));
+
+    @Test
+    void isDefinitelyAbsent_FreshFilterNeverRejectsKnownIds() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            employees.add(Employee.builder().id(UUID.randomUUID()).build());
+        }
+
+        knownIds.rebuild(EmployeeSnapshot.of(employees), knownIds.version());
+
+        employees.forEach(employee ->
+                assertFalse(knownIds.isDefinitelyAbsent(employee.getId().toString())));
+        int rejected = 0;
+        for (int i = 0; i < 5_000; i++) {
+            rejected += knownIds.isDefinitelyAbsent(UUID.randomUUID().toString()) ? 1 : 0;
+        }
+        assertTrue(rejected > 4_800, "unknown ids answered locally: " + rejected);
+    }
+
+    @Test
+    void isDefinitelyAbsent_StaleFilterIsNotTrusted() {
+        KnownEmployeeIds staleIds = new KnownEmployeeIds(Duration.ZERO, Duration.ofSeconds(30));
+
+        staleIds.rebuild(List.of(), staleIds.version());
+
+        assertFalse(staleIds.isDefinitelyAbsent(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void recordCreated_SurvivesNextRebuildFromOlderList() {
+        UUID created = UUID.randomUUID();
+        knownIds.recordMissing(created);
+        assertTrue(knownIds.isDefinitelyAbsent(created.toString()));
+
+        knownIds.recordCreated(created);
+        knownIds.rebuild(List.of(), knownIds.version());
+
+        assertFalse(knownIds.isDefinitelyAbsent(created.toString()));
+    }
+
+    @Test
+    void advance_AddsCreatedIdsAndMarksDeletedOnesAbsent() {
+        Employee kept = Employee.builder().id(UUID.randomUUID()).name("Kept").build();
+        Employee deleted = Employee.builder().id(UUID.randomUUID()).name("Deleted").build();
+        Employee created = Employee.builder().id(UUID.randomUUID()).name("Created").build();
+        EmployeeSnapshot before = EmployeeSnapshot.of(List.of(kept, deleted));
+        knownIds.rebuild(before, knownIds.version());
+        List<EmployeeChange> changes = List.of(
+                EmployeeChange.builder()
+                        .version(1)
+                        .type(EmployeeChange.Type.DELETED)
+                        .id(deleted.getId())
+                        .build(),
+                EmployeeChange.builder()
+                        .version(2)
+                        .type(EmployeeChange.Type.CREATED)
+                        .id(created.getId())
+                        .employee(created)
+                        .build());
+
+        knownIds.advance(before.withChanges(changes), changes, knownIds.version());
+
+        assertTrue(knownIds.isDefinitelyAbsent(deleted.getId().toString()));
+        assertFalse(knownIds.isDefinitelyAbsent(created.getId().toString()));
+        assertEquals(created, knownIds.lookup(created.getId().toString()).orElseThrow());
+        assertEquals(kept, knownIds.lookup(kept.getId().toString()).orElseThrow());
+        assertTrue(knownIds.lookup(deleted.getId().toString()).isEmpty());
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapStoreTest {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    void put_OverCapacity_DropsOldestSlabFirst() {
+        OffHeapStore store = new OffHeapStore(200, 100);
+
+        store.put("a", new byte[60], NEVER);
+        store.put("b", new byte[60], NEVER);
+        store.put("c", new byte[60], NEVER);
+
+        assertNull(store.get("a", 0));
+        assertArrayEquals(new byte[60], store.get("b", 0));
+        assertArrayEquals(new byte[60], store.get("c", 0));
+        assertEquals(1, store.evictionCount());
+        assertEquals(200, store.allocatedBytes());
+    }
+
+    @Test
+    void get_ExpiredOrOverwritten_ReturnsLatestLiveValue() {
+        OffHeapStore store = new OffHeapStore(1024, 256);
+
+        store.put("a", new byte[] {1}, 100);
+        store.put("b", new byte[] {2}, 100);
+        store.put("b", new byte[] {3, 4}, 200);
+
+        assertNull(store.get("a", 100));
+        assertArrayEquals(new byte[] {3, 4}, store.get("b", 150));
+        assertEquals(2, store.size());
+        assertEquals(3, store.usedBytes());
+    }
+
+    @Test
+    void put_LargerThanSlab_GetsDedicatedSlab() {
+        OffHeapStore store = new OffHeapStore(1024, 64);
+
+        assertTrue(store.put("big", new byte[500], NEVER));
+        assertFalse(store.put("huge", new byte[2048], NEVER));
+
+        assertEquals(500, store.get("big", 0).length);
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RetainedSizeWeigherTest {
+
+    private final RetainedSizeWeigher weigher = new RetainedSizeWeigher();
+
+    @Test
+    void weigh_ListWeighsAboutItsEmployeesCombined() {
+        List<Employee> employees = employees(1_000);
+
+        long single = RetainedSizeWeigher.valueBytes(employees.get(0));
+        int list = weigher.weigh("all", employees);
+
+        assertTrue(single > 200 && single < 400, "single employee: " + single);
+        assertTrue(list > 1_000 * single && list < 1_100 * single, "list: " + list);
+    }
+
+    @Test
+    void weigh_SnapshotWeighsLessThanDtoList() {
+        List<Employee> employees = employees(1_000);
+
+        int dtos = weigher.weigh("all", employees);
+        int snapshot = weigher.weigh("all", EmployeeSnapshot.of(employees));
+
+        assertTrue(snapshot < dtos / 2, "snapshot " + snapshot + " vs dtos " + dtos);
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            employees.add(Employee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Employee Number " + i)
+                    .salary(50_000 + i)
+                    .age(30)
+                    .title("Software Engineer")
+                    .email("employee" + i + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+}
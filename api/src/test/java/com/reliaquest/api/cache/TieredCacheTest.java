@@ -0,0 +1,124 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+class TieredCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Cache<Object, Object> l1;
+    private TieredCache cache;
+
+    private final Employee tiger = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("Tiger Nixon")
+            .salary(320800)
+            .age(61)
+            .title("Vice Chair")
+            .email("tnixon@company.com")
+            .build();
+    private final Employee bill = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("Bill Bob")
+            .title("Vice Chair")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        l1 = Caffeine.newBuilder().maximumSize(1).executor(Runnable::run).build();
+        cache = new TieredCache(
+                new CaffeineCache("employee-by-id", l1),
+                new OffHeapStore(1024 * 1024, 64 * 1024),
+                Duration.ofMinutes(5),
+                meterRegistry);
+    }
+
+    @Test
+    void get_EvictedFromL1_ServedFromL2AndPromoted() {
+        cache.put("tiger", tiger);
+        cache.put("bill", bill);
+        l1.cleanUp();
+        assertEquals(1, l1.estimatedSize());
+
+        assertEquals(tiger, cache.get("tiger", Employee.class));
+        assertEquals(bill, cache.get("bill", Employee.class));
+        assertTrue(tierGets("l2", "hit") >= 1);
+    }
+
+    @Test
+    void get_EmployeeList_RoundTripsAsSnapshot() {
+        cache.put("all", List.of(tiger, bill));
+        l1.invalidateAll();
+
+        Object value = cache.get("all").get();
+
+        assertInstanceOf(EmployeeSnapshot.class, value);
+        assertEquals(List.of(tiger, bill), value);
+        assertEquals(1.0, tierGets("l2", "hit"));
+    }
+
+    @Test
+    void putL1_DropsTheOlderL2Copy() {
+        cache.put("all", List.of(tiger));
+
+        cache.putL1("all", List.of(tiger, bill));
+
+        assertEquals(List.of(tiger, bill), cache.get("all").get());
+        l1.invalidateAll();
+        assertNull(cache.get("all"));
+    }
+
+    @Test
+    void evict_RemovesFromBothTiers() {
+        cache.put("tiger", tiger);
+
+        cache.evict("tiger");
+
+        assertNull(cache.get("tiger"));
+        assertEquals(1.0, tierGets("l2", "miss"));
+    }
+
+    @Test
+    void peek_RecordsNoHitOrMiss() {
+        l1 = Caffeine.newBuilder().recordStats().executor(Runnable::run).build();
+        cache = new TieredCache(
+                new CaffeineCache("employees", l1),
+                new OffHeapStore(1024 * 1024, 64 * 1024),
+                Duration.ofMinutes(5),
+                meterRegistry);
+        cache.put("all", List.of(tiger, bill));
+
+        assertEquals(List.of(tiger, bill), cache.peek("all").get());
+        l1.invalidateAll();
+        assertEquals(List.of(tiger, bill), cache.peek("all").get());
+        assertNull(cache.peek("none"));
+
+        double tierGets = meterRegistry.get("cache.tier.gets").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        assertEquals(0, l1.stats().requestCount());
+        assertEquals(0.0, tierGets);
+    }
+
+    private double tierGets(String tier, String result) {
+        return meterRegistry
+                .get("cache.tier.gets")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.KnownEmployeeIds;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class EmployeeEventSubscriberTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("employees", "employee-by-id");
+    private final KnownEmployeeIds knownEmployeeIds =
+            new KnownEmployeeIds(Duration.ofMinutes(1), Duration.ofSeconds(30));
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final EmployeeEventSubscriber subscriber = new EmployeeEventSubscriber(
+            new ObjectMapper(),
+            cacheManager,
+            knownEmployeeIds,
+            employeeService,
+            "http://localhost:8112/api/v1/employee",
+            Duration.ofSeconds(30));
+
+    private final Employee tiger = Employee.builder()
+            .id(UUID.randomUUID())
+            .name("Tiger Nixon")
+            .salary(320800)
+            .build();
+
+    @Test
+    void changeEvent_CreatedEmployeeCachedAndAppliedToList() {
+        List<Employee> cached = List.of();
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, cached);
+        when(employeeService.applyChange(eq("epoch-1"), any(EmployeeChange.class))).thenReturn(true);
+        long version = knownEmployeeIds.version();
+
+        feedCreated(7);
+
+        assertEquals(tiger, cacheManager.getCache("employee-by-id").get(tiger.getId().toString(), Employee.class));
+        assertSame(cached, cacheManager.getCache("employees").get(SimpleKey.EMPTY).get());
+        verify(employeeService)
+                .applyChange(
+                        "epoch-1",
+                        EmployeeChange.builder()
+                                .version(7)
+                                .type(EmployeeChange.Type.CREATED)
+                                .id(tiger.getId())
+                                .employee(tiger)
+                                .build());
+        assertEquals("epoch-1:7", subscriber.getLastEventId());
+        // A pushed change is not a local write, so it must not retire the list used for id lookups
+        assertEquals(version, knownEmployeeIds.version());
+    }
+
+    @Test
+    void changeEvent_NotFollowingCachedList_ListInvalidated() {
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, List.of());
+        when(employeeService.applyChange(eq("epoch-1"), any(EmployeeChange.class))).thenReturn(false);
+
+        feedCreated(9);
+
+        assertEquals(tiger, cacheManager.getCache("employee-by-id").get(tiger.getId().toString(), Employee.class));
+        assertNull(cacheManager.getCache("employees").get(SimpleKey.EMPTY));
+        assertEquals("epoch-1:9", subscriber.getLastEventId());
+    }
+
+    @Test
+    void changeEvent_DeletedEmployeeEvictedAndKnownMissing() {
+        cacheManager.getCache("employee-by-id").put(tiger.getId().toString(), tiger);
+
+        feed(
+                ": keepalive",
+                "",
+                "id: epoch-1:8",
+                "event: change",
+                "data: {\"version\":8,\"type\":\"DELETED\",\"id\":\"" + tiger.getId() + "\"}",
+                "");
+
+        assertNull(cacheManager.getCache("employee-by-id").get(tiger.getId().toString()));
+        assertTrue(knownEmployeeIds.isDefinitelyAbsent(tiger.getId().toString()));
+        assertEquals("epoch-1:8", subscriber.getLastEventId());
+    }
+
+    @Test
+    void resetEvent_DropsEveryEmployeeCache() {
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, List.of(tiger));
+        cacheManager.getCache("employee-by-id").put(tiger.getId().toString(), tiger);
+
+        feed("id: epoch-2:3", "event: reset", "data: {\"epoch\":\"epoch-2\",\"version\":3,\"truncated\":true}", "");
+
+        assertNull(cacheManager.getCache("employees").get(SimpleKey.EMPTY));
+        assertNull(cacheManager.getCache("employee-by-id").get(tiger.getId().toString()));
+        assertEquals("epoch-2:3", subscriber.getLastEventId());
+    }
+
+    private void feedCreated(long version) {
+        feed(
+                "id: epoch-1:" + version,
+                "event: change",
+                "data: {\"version\":" + version + ",\"type\":\"CREATED\",\"id\":\"" + tiger.getId()
+                        + "\",\"employee\":{\"id\":\"" + tiger.getId()
+                        + "\",\"employee_name\":\"Tiger Nixon\",\"employee_salary\":320800}}",
+                "");
+    }
+
+    private void feed(String... lines) {
+        for (String line : lines) {
+            subscriber.onLine(line);
+        }
+    }
+}
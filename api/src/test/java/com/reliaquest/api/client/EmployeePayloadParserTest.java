@@ -0,0 +1,84 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeePayloadParserTest {
+
+    private final EmployeePayloadParser parser = new EmployeePayloadParser(new ObjectMapper());
+
+    @Test
+    void readEmployeeList_ParsesUpstreamPayload() throws IOException {
+        String json = "{\"data\":[{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\",\"employee_name\":\"Tiger Nixon\","
+                + "\"employee_salary\":320800,\"employee_age\":61,\"employee_title\":\"Vice Chair\","
+                + "\"employee_email\":\"tnixon@company.com\",\"employee_extra\":{\"nested\":[1,2]}},"
+                + "{\"id\":\"5255f1a5-f9f7-4be5-829a-134bde088d17\",\"employee_name\":\"Bill Bob\","
+                + "\"employee_salary\":null}],"
+                + "\"status\":\"Successfully processed request.\"}";
+
+        List<Employee> employees = read(json);
+
+        assertEquals(2, employees.size());
+        Employee first = employees.get(0);
+        assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", first.getId().toString());
+        assertEquals("Tiger Nixon", first.getName());
+        assertEquals(320800, first.getSalary());
+        assertEquals(61, first.getAge());
+        assertEquals("Vice Chair", first.getTitle());
+        assertEquals("tnixon@company.com", first.getEmail());
+        assertEquals("Bill Bob", employees.get(1).getName());
+        assertNull(employees.get(1).getSalary());
+    }
+
+    @Test
+    void readEmployeeList_NoData_ReturnsNull() throws IOException {
+        assertNull(read("{\"status\":\"Failed to process request.\",\"error\":\"boom\"}"));
+        assertNull(read("{\"data\":null}"));
+    }
+
+    @Test
+    void readEmployeeList_NonObjectInData_Throws() {
+        assertThrows(
+                JsonParseException.class,
+                () -> read("{\"data\":[{\"employee_name\":\"Tiger Nixon\"},5,{\"employee_name\":\"Bill Bob\"}]}"));
+        assertThrows(JsonParseException.class, () -> read("{\"data\":[{\"employee_name\":\"Tiger Nixon\"},null]}"));
+    }
+
+    @Test
+    void readEmployeeList_SmileContentType_ParsesBinaryPayload() throws IOException {
+        String json = "{\"data\":[{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\",\"employee_name\":\"Tiger Nixon\","
+                + "\"employee_salary\":320800,\"employee_age\":null}]}";
+        byte[] smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(new ObjectMapper().readTree(json));
+
+        List<Employee> employees =
+                parser.readEmployeeList(new ByteArrayInputStream(smile), EmployeePayloadParser.SMILE);
+
+        assertEquals(1, employees.size());
+        assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", employees.get(0).getId().toString());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+        assertEquals(320800, employees.get(0).getSalary());
+        assertNull(employees.get(0).getAge());
+    }
+
+    @Test
+    void readEmployeeList_NoContentType_ReadsJson() throws IOException {
+        byte[] json = "{\"data\":[{\"employee_name\":\"Bill Bob\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        List<Employee> employees = parser.readEmployeeList(new ByteArrayInputStream(json), null);
+
+        assertEquals("Bill Bob", employees.get(0).getName());
+    }
+
+    private List<Employee> read(String json) throws IOException {
+        return parser.readEmployeeList(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeQueryClientTest {
+
+    private final String baseUrl = "http://localhost:8112/api/v1/employee";
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final EmployeeQueryClient queryClient = new EmployeeQueryClient(restTemplate);
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queryClient, "baseUrl", baseUrl);
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void searchByName_SendsFilterAndRechecksMatches() {
+        server.expect(requestTo(baseUrl + "?nameContains=John%20D"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        "{\"data\":[{\"employee_name\":\"John Doe\"},{\"employee_name\":\"Jane Roe\"}]}",
+                        MediaType.APPLICATION_JSON));
+
+        List<String> names = queryClient.searchByName("John D").stream()
+                .map(Employee::getName)
+                .toList();
+
+        assertEquals(List.of("John Doe"), names);
+        server.verify();
+    }
+
+    @Test
+    void topEarnerNames_ReadsAggregate() {
+        server.expect(requestTo(baseUrl + "/aggregates/top-earners?limit=2"))
+                .andRespond(withSuccess("{\"data\":[\"High\",\"Mid\"]}", MediaType.APPLICATION_JSON));
+
+        assertEquals(List.of("High", "Mid"), queryClient.topEarnerNames(2));
+        server.verify();
+    }
+
+    @Test
+    void highestSalary_NoSalaries_ReturnsZero() {
+        server.expect(requestTo(baseUrl + "/aggregates/highest-salary"))
+                .andRespond(
+                        withSuccess("{\"status\":\"Successfully processed request.\"}", MediaType.APPLICATION_JSON));
+
+        assertEquals(0, queryClient.highestSalary());
+        server.verify();
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedConnectionManagerTest {
+
+    private final HttpRoute route = new HttpRoute(new HttpHost("localhost", 8112));
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InstrumentedConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        connectionManager = new InstrumentedConnectionManager(meterRegistry, clock::get);
+        connectionManager.setDefaultMaxPerRoute(20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    @Test
+    void lease_RecordsLeaseWaitAndRouteLimit() throws Exception {
+        release(lease(2));
+
+        Timer leaseWait = meterRegistry
+                .get("httpcomponents.httpclient.pool.lease.wait")
+                .tag("outcome", "acquired")
+                .timer();
+        assertEquals(2, leaseWait.count());
+        assertEquals(
+                20.0, meterRegistry.get("httpcomponents.httpclient.pool.route.max").gauge().value());
+    }
+
+    @Test
+    void resizeRoutes_GrowsToBusyConnectionsWithHeadroomAndShrinksGradually() throws Exception {
+        List<ConnectionEndpoint> endpoints = lease(3);
+        advance(10);
+
+        connectionManager.resizeRoutes(1, 50, 1.5);
+        assertEquals(5, connectionManager.getMaxPerRoute(route));
+
+        release(endpoints);
+        advance(10);
+        connectionManager.resizeRoutes(1, 50, 1.5);
+        assertEquals(3, connectionManager.getMaxPerRoute(route));
+
+        advance(10);
+        connectionManager.resizeRoutes(1, 50, 1.5);
+        assertEquals(2, connectionManager.getMaxPerRoute(route));
+    }
+
+    @Test
+    void resizeRoutes_ClampsToConfiguredBounds() throws Exception {
+        List<ConnectionEndpoint> endpoints = lease(8);
+        advance(10);
+
+        connectionManager.resizeRoutes(1, 6, 1.5);
+
+        assertEquals(6, connectionManager.getMaxPerRoute(route));
+        release(endpoints);
+    }
+
+    private List<ConnectionEndpoint> lease(int count) throws Exception {
+        List<ConnectionEndpoint> endpoints = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            endpoints.add(connectionManager
+                    .lease("test-" + i, route, Timeout.ofSeconds(1), null)
+                    .get(Timeout.ofSeconds(1)));
+        }
+        return endpoints;
+    }
+
+    private void release(List<ConnectionEndpoint> endpoints) {
+        endpoints.forEach(endpoint -> connectionManager.release(endpoint, null, TimeValue.ZERO_MILLISECONDS));
+    }
+
+    private void advance(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
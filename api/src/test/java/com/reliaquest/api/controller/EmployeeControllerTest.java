@@ -4,11 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.IdempotencyStore;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.ExternalServiceException;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -17,11 +21,14 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeControllerTest {
@@ -29,6 +36,12 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private HttpServletRequest request;
+
+    @Spy
+    private IdempotencyStore idempotencyStore = new IdempotencyStore(Duration.ofHours(1), 100);
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -137,7 +150,8 @@ class EmployeeControllerTest {
 
     @Test
     void createEmployee_Success() {
-        when(employeeService.createEmployee(any(CreateEmployeeInput.class))).thenReturn(testEmployee);
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), anyString()))
+                .thenReturn(testEmployee);
 
         ResponseEntity<Employee> response = employeeController.createEmployee(createInput);
 
@@ -146,6 +160,20 @@ class EmployeeControllerTest {
         assertEquals(testEmployee.getName(), response.getBody().getName());
     }
 
+    @Test
+    void createEmployee_WithoutIdempotencyKey_GeneratesOnePerRequest() {
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), anyString()))
+                .thenReturn(testEmployee);
+
+        employeeController.createEmployee(createInput);
+        employeeController.createEmployee(createInput);
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(employeeService, times(2)).createEmployee(any(CreateEmployeeInput.class), keys.capture());
+        assertNotEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+        verifyNoInteractions(idempotencyStore);
+    }
+
     @Test
     void deleteEmployeeById_Success() {
         String id = testEmployee.getId().toString();
@@ -173,4 +201,44 @@ class EmployeeControllerTest {
 
         assertThrows(ExternalServiceException.class, () -> employeeController.deleteEmployeeById(id));
     }
+
+    @Test
+    void createEmployees_AnyItemNotCreated_ReturnsBadRequest() {
+        ReflectionTestUtils.setField(employeeController, "maxBatchSize", 10);
+        List<BatchItemResult> results = List.of(
+                BatchItemResult.builder()
+                        .index(0)
+                        .status(BatchItemResult.Status.SKIPPED)
+                        .build(),
+                BatchItemResult.builder()
+                        .index(1)
+                        .status(BatchItemResult.Status.INVALID)
+                        .build());
+        when(employeeService.createEmployees(any(), anyString())).thenReturn(results);
+
+        ResponseEntity<List<BatchItemResult>> response =
+                employeeController.createEmployees(List.of(createInput, new CreateEmployeeInput()));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    @Test
+    void createEmployees_SameIdempotencyKey_CreatesOnceWithClientKey() {
+        ReflectionTestUtils.setField(employeeController, "maxBatchSize", 10);
+        List<BatchItemResult> results = List.of(BatchItemResult.builder()
+                .index(0)
+                .status(BatchItemResult.Status.CREATED)
+                .employee(testEmployee)
+                .build());
+        when(request.getHeader(EmployeeService.IDEMPOTENCY_KEY_HEADER)).thenReturn("batch-key");
+        when(employeeService.createEmployees(any(), anyString())).thenReturn(results);
+
+        employeeController.createEmployees(List.of(createInput));
+        ResponseEntity<List<BatchItemResult>> repeat = employeeController.createEmployees(List.of(createInput));
+
+        assertEquals(HttpStatus.CREATED, repeat.getStatusCode());
+        assertEquals(results, repeat.getBody());
+        verify(employeeService).createEmployees(List.of(createInput), "batch-key");
+    }
 }
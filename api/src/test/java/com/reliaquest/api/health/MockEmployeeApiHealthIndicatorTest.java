@@ -0,0 +1,126 @@
+package com.reliaquest.api.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MockEmployeeApiHealthIndicatorTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private CircuitBreaker circuitBreaker;
+    private MockEmployeeApiHealthIndicator healthIndicator;
+
+    private final String baseUrl = "http://localhost:8112/api/v1/employee";
+    private final String probePath = "/00000000-0000-0000-0000-000000000000";
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("employee-service");
+        UpstreamTrafficMonitor trafficMonitor = new UpstreamTrafficMonitor(circuitBreakerRegistry);
+
+        healthIndicator = new MockEmployeeApiHealthIndicator(
+                restTemplate, circuitBreakerRegistry, RateLimiterRegistry.ofDefaults(), cacheManager, trafficMonitor);
+        ReflectionTestUtils.setField(healthIndicator, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(healthIndicator, "idleThreshold", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(healthIndicator, "probeTtl", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(healthIndicator, "probePath", probePath);
+    }
+
+    @Test
+    void health_RecentSuccessfulTraffic_UpWithoutProbe() {
+        circuitBreaker.onSuccess(10, TimeUnit.MILLISECONDS);
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals("traffic", health.getDetails().get("source"));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void health_RecentFailingTraffic_DownWithoutProbe() {
+        circuitBreaker.onError(10, TimeUnit.MILLISECONDS, new ResourceAccessException("Connection refused"));
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Connection refused", health.getDetails().get("error"));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void health_RecentThrottledTraffic_Up() {
+        circuitBreaker.onError(
+                10,
+                TimeUnit.MILLISECONDS,
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null));
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void health_CircuitOpen_DownWithoutProbe() {
+        circuitBreaker.transitionToOpenState();
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("circuit-breaker", health.getDetails().get("source"));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void health_Idle_ProbesLightweightEndpointOnceWithinTtl() {
+        when(restTemplate.exchange(eq(baseUrl + probePath), eq(HttpMethod.GET), isNull(), eq(String.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        Health first = healthIndicator.health();
+        Health second = healthIndicator.health();
+
+        assertEquals(Status.UP, first.getStatus());
+        assertEquals(Status.UP, second.getStatus());
+        assertEquals("probe", first.getDetails().get("source"));
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), isNull(), eq(String.class));
+    }
+
+    @Test
+    void health_Idle_ProbeFailure_Down() {
+        when(restTemplate.exchange(eq(baseUrl + probePath), eq(HttpMethod.GET), isNull(), eq(String.class)))
+                .thenThrow(new ResourceAccessException("Connection refused"));
+
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Connection refused", health.getDetails().get("error"));
+    }
+}
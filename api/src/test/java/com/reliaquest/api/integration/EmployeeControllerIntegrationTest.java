@@ -2,11 +2,16 @@ package com.reliaquest.api.integration;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.IdempotencyStore;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
@@ -18,10 +23,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest
+@Import(IdempotencyStore.class)
 class EmployeeControllerIntegrationTest {
 
     @Autowired
@@ -154,7 +161,8 @@ class EmployeeControllerIntegrationTest {
                 .email("john.doe@company.com")
                 .build();
 
-        when(employeeService.createEmployee(any(CreateEmployeeInput.class))).thenReturn(createdEmployee);
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), anyString()))
+                .thenReturn(createdEmployee);
 
         mockMvc.perform(post("/api/v1/employee")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -167,6 +175,41 @@ class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.employee_title", is("Software Engineer")));
     }
 
+    @Test
+    void createEmployee_RepeatedIdempotencyKey_CreatesOnce() throws Exception {
+        CreateEmployeeInput input = CreateEmployeeInput.builder()
+                .name("John Doe")
+                .salary(75000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+        Employee createdEmployee = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("John Doe")
+                .salary(75000)
+                .build();
+        when(employeeService.createEmployee(any(CreateEmployeeInput.class), eq("key-1")))
+                .thenReturn(createdEmployee);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/v1/employee")
+                            .header("Idempotency-Key", "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(input)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id", is(createdEmployee.getId().toString())));
+        }
+        input.setSalary(80000);
+        mockMvc.perform(post("/api/v1/employee")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error", is("IDEMPOTENCY_KEY_REUSED")));
+
+        verify(employeeService, times(1)).createEmployee(any(CreateEmployeeInput.class), eq("key-1"));
+    }
+
     @Test
     void createEmployee_ValidationError() throws Exception {
         CreateEmployeeInput invalidInput = CreateEmployeeInput.builder()
@@ -0,0 +1,159 @@
+package com.reliaquest.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotTest {
+
+    private final Employee tiger = employee("Tiger Nixon", 320800, 61, "Vice Chair");
+    private final Employee zoe = employee("Zo\u00eb \u0141ukasiewicz", 320800, 29, "Software Engineer");
+    private final Employee bill = employee("Bill Bob", 90000, 40, "Software Engineer");
+    private final Employee unpaid = Employee.builder().name("No Salary").build();
+    private final Employee unpaidWithId = Employee.builder().id(UUID.randomUUID()).name("No Salary").build();
+
+    @Test
+    void get_RoundTripsEveryField() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(tiger, zoe, bill, unpaid));
+
+        assertEquals(List.of(tiger, zoe, bill, unpaid), snapshot);
+        assertEquals(4, snapshot.size());
+        assertNull(snapshot.get(3).getId());
+        assertNull(snapshot.get(3).getSalary());
+    }
+
+    @Test
+    void topEarnerNames_HighestFirstAndTiesKeepListOrder() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(bill, unpaid, tiger, zoe));
+
+        assertEquals(List.of("Tiger Nixon", "Zo\u00eb \u0141ukasiewicz"), snapshot.topEarnerNames(2));
+        assertEquals(List.of("Tiger Nixon", "Zo\u00eb \u0141ukasiewicz", "Bill Bob"), snapshot.topEarnerNames(10));
+        assertEquals(List.of(), snapshot.topEarnerNames(0));
+        assertEquals(320800, snapshot.highestSalary().getAsInt());
+    }
+
+    @Test
+    void withChanges_DropsDeletedAndAppendsCreatedRows() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(tiger, zoe, bill));
+
+        EmployeeSnapshot changed = snapshot.withChanges(List.of(
+                change(1, EmployeeChange.Type.DELETED, zoe.getId(), null),
+                change(2, EmployeeChange.Type.CREATED, unpaidWithId.getId(), unpaidWithId),
+                change(3, EmployeeChange.Type.CREATED, bill.getId(), bill)));
+
+        assertEquals(List.of(tiger, unpaidWithId, bill), changed);
+        assertEquals(List.of(tiger, zoe, bill), snapshot);
+        assertSame(snapshot, snapshot.withChanges(List.of()));
+    }
+
+    @Test
+    void withChanges_ManyDeltasMatchTheListTheyDescribe() {
+        Random random = new Random(7);
+        List<Employee> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(employee("Employee " + i, 1000 + i, 30, "Title " + (i % 3)));
+        }
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(expected);
+        snapshot.indexOf(expected.get(0).getId());
+
+        long version = 0;
+        for (int delta = 0; delta < 200; delta++) {
+            List<EmployeeChange> changes = new ArrayList<>();
+            for (int i = random.nextInt(4); i >= 0; i--) {
+                if (!expected.isEmpty() && random.nextBoolean()) {
+                    Employee deleted = expected.remove(random.nextInt(expected.size()));
+                    changes.add(change(++version, EmployeeChange.Type.DELETED, deleted.getId(), null));
+                } else {
+                    Employee created = employee("New " + version, random.nextInt(100_000), 40, "Title " + version);
+                    expected.add(created);
+                    changes.add(change(++version, EmployeeChange.Type.CREATED, created.getId(), created));
+                }
+            }
+            snapshot = snapshot.withChanges(changes);
+
+            assertEquals(expected, snapshot);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(i, snapshot.indexOf(expected.get(i).getId()));
+            }
+        }
+    }
+
+    @Test
+    void withChanges_SnapshotsFromTheSameBaseDoNotSeeEachOther() {
+        EmployeeSnapshot base = EmployeeSnapshot.builder(8).add(tiger).add(zoe).build();
+
+        EmployeeSnapshot withBill =
+                base.withChanges(List.of(change(1, EmployeeChange.Type.CREATED, bill.getId(), bill)));
+        EmployeeSnapshot withUnpaid = base.withChanges(
+                List.of(change(1, EmployeeChange.Type.CREATED, unpaidWithId.getId(), unpaidWithId)));
+
+        assertEquals(List.of(tiger, zoe), base);
+        assertEquals(List.of(tiger, zoe, bill), withBill);
+        assertEquals(List.of(tiger, zoe, unpaidWithId), withUnpaid);
+        assertEquals(-1, base.indexOf(bill.getId()));
+        assertEquals(-1, withUnpaid.indexOf(bill.getId()));
+        assertEquals(2, withBill.indexOf(bill.getId()));
+    }
+
+    @Test
+    void withChanges_DeletedRowsAreSkippedByIndexAndScans() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(8).add(tiger).add(zoe).add(bill).build();
+
+        EmployeeSnapshot changed = snapshot.withChanges(List.of(
+                change(1, EmployeeChange.Type.DELETED, tiger.getId(), null),
+                change(2, EmployeeChange.Type.CREATED, tiger.getId(), tiger)));
+
+        assertEquals(List.of(zoe, bill, tiger), changed);
+        assertEquals(2, changed.indexOf(tiger.getId()));
+        assertEquals(0, changed.indexOf(zoe.getId()));
+        assertEquals(List.of(tiger), changed.searchByName("nix"));
+        assertEquals(List.of("Zo\u00eb \u0141ukasiewicz", "Tiger Nixon"), changed.topEarnerNames(2));
+        assertEquals(List.of(tiger, zoe, bill), snapshot);
+        assertEquals(0, snapshot.indexOf(tiger.getId()));
+    }
+
+    @Test
+    void indexOf_FindsEveryRowAndRejectsUnknownIds() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(tiger, unpaid, zoe, bill));
+
+        assertEquals(0, snapshot.indexOf(tiger.getId()));
+        assertEquals(2, snapshot.indexOf(zoe.getId()));
+        assertEquals(3, snapshot.indexOf(bill.getId()));
+        assertEquals(-1, snapshot.indexOf(UUID.randomUUID()));
+        assertEquals(-1, snapshot.indexOf(new UUID(0, 0)));
+    }
+
+    @Test
+    void searchByName_IgnoresCaseForLatin1AndUtf8Names() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(tiger, zoe, bill));
+
+        assertEquals(List.of(tiger), snapshot.searchByName("nix"));
+        assertEquals(List.of(zoe), snapshot.searchByName("\u0142uk"));
+        assertEquals(List.of(bill), snapshot.searchByName("bill"));
+        assertTrue(snapshot.searchByName("nobody").isEmpty());
+    }
+
+    private static Employee employee(String name, int salary, int age, String title) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+
+    private static EmployeeChange change(long version, EmployeeChange.Type type, UUID id, Employee employee) {
+        return EmployeeChange.builder()
+                .version(version)
+                .type(type)
+                .id(id)
+                .employee(employee)
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.ExternalServiceException;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateJob;
+import com.reliaquest.api.model.Employee;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+@ExtendWith(MockitoExtension.class)
+class CreateJobDispatcherTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @TempDir
+    Path directory;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private CreateJobQueue queue;
+    private CreateJobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        queue = new CreateJobQueue(
+                new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(),
+                directory,
+                10,
+                false,
+                Duration.ofMinutes(5));
+        dispatcher =
+                new CreateJobDispatcher(queue, employeeService, circuitBreakerRegistry, 10, Duration.ofSeconds(60));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        queue.close();
+    }
+
+    private static CreateEmployeeInput input(String name, int salary) {
+        return CreateEmployeeInput.builder()
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    @Test
+    void dispatchOnce_CreatedAndInvalidJobsFinish_SkippedStayQueued() throws Exception {
+        CreateJob created = queue.submit(input("John Doe", 75000));
+        CreateJob invalid = queue.submit(input("Jane Smith", 1));
+        CreateJob skipped = queue.submit(input("Jim Beam", 65000));
+        Employee employee = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+        when(employeeService.createEmployees(anyList(), anyString()))
+                .thenReturn(List.of(
+                        BatchItemResult.builder()
+                                .index(0)
+                                .status(BatchItemResult.Status.CREATED)
+                                .employee(employee)
+                                .build(),
+                        BatchItemResult.builder()
+                                .index(1)
+                                .status(BatchItemResult.Status.INVALID)
+                                .error("rejected")
+                                .build(),
+                        BatchItemResult.builder()
+                                .index(2)
+                                .status(BatchItemResult.Status.SKIPPED)
+                                .build()));
+
+        assertEquals(0, dispatcher.dispatchOnce());
+
+        assertEquals(employee, queue.status(created.getId()).orElseThrow().getEmployee());
+        assertEquals(CreateJob.Status.FAILED, queue.status(invalid.getId()).orElseThrow().getStatus());
+        assertEquals(CreateJob.Status.QUEUED, queue.status(skipped.getId()).orElseThrow().getStatus());
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void stop_JoinsTheWorkerAndLeavesTheJournalOpen() {
+        dispatcher.start();
+        Runnable callback = mock(Runnable.class);
+
+        dispatcher.stop(callback);
+
+        verify(callback).run();
+        assertFalse(dispatcher.isRunning());
+        assertEquals(CreateJob.Status.QUEUED, queue.submit(input("John Doe", 75000)).getStatus());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void dispatchOnce_UpstreamThrottled_WaitsRetryAfterAndKeepsJobs() throws Exception {
+        CreateJob job = queue.submit(input("John Doe", 75000));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        HttpClientErrorException throttled =
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+        when(employeeService.createEmployees(anyList(), anyString()))
+                .thenThrow(new ExternalServiceException("Mock Employee API", "Failed to create employees", throttled));
+
+        assertEquals(7000, dispatcher.dispatchOnce());
+        assertEquals(CreateJob.Status.QUEUED, queue.status(job.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void dispatchOnce_SameJobs_SameIdempotencyKey() throws Exception {
+        queue.submit(input("John Doe", 75000));
+        when(employeeService.createEmployees(anyList(), anyString()))
+                .thenThrow(new ExternalServiceException("Mock Employee API", "Failed to create employees"));
+
+        dispatcher.dispatchOnce();
+        dispatcher.dispatchOnce();
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(employeeService, times(2)).createEmployees(anyList(), keys.capture());
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatchOnce_JobSubmittedBetweenFailures_ResendsSameBatchAndKey() throws Exception {
+        CreateJob first = queue.submit(input("John Doe", 75000));
+        when(employeeService.createEmployees(anyList(), anyString()))
+                .thenThrow(new ExternalServiceException("Mock Employee API", "Failed to create employees"));
+
+        dispatcher.dispatchOnce();
+        CreateJob second = queue.submit(input("Jane Smith", 80000));
+        dispatcher.dispatchOnce();
+
+        ArgumentCaptor<List<CreateEmployeeInput>> inputs = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(employeeService, times(2)).createEmployees(inputs.capture(), keys.capture());
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+        assertEquals(List.of(input("John Doe", 75000)), inputs.getAllValues().get(1));
+        assertEquals(CreateJob.Status.QUEUED, queue.status(first.getId()).orElseThrow().getStatus());
+        assertEquals(CreateJob.Status.QUEUED, queue.status(second.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void dispatchOnce_CircuitOpen_SendsNothing() throws Exception {
+        queue.submit(input("John Doe", 75000));
+        circuitBreakerRegistry.circuitBreaker("employee-service").transitionToOpenState();
+
+        assertTrue(dispatcher.dispatchOnce() > 0);
+        verifyNoInteractions(employeeService);
+    }
+}
@@ -0,0 +1,172 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.WriteQueueFullException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateJob;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CreateJobQueueTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    private CreateJobQueue open(int capacity) throws IOException {
+        return open(capacity, false);
+    }
+
+    private CreateJobQueue open(int capacity, boolean fsync) throws IOException {
+        return new CreateJobQueue(
+                objectMapper, new SimpleMeterRegistry(), directory, capacity, fsync, Duration.ofMinutes(5));
+    }
+
+    private static CreateEmployeeInput input(String name) {
+        return CreateEmployeeInput.builder()
+                .name(name)
+                .salary(75000)
+                .age(30)
+                .title("Software Engineer")
+                .build();
+    }
+
+    private static List<UUID> ids(CreateJobQueue.Batch batch) {
+        return batch.jobs().stream().map(CreateJobQueue.Pending::id).toList();
+    }
+
+    @Test
+    void queuedJobs_SurviveRestartInOrder() throws Exception {
+        CreateJob first;
+        CreateJob second;
+        try (CreateJobQueue queue = open(10)) {
+            first = queue.submit(input("John Doe"));
+            second = queue.submit(input("Jane Smith"));
+            CreateJob third = queue.submit(input("Jim Beam"));
+            queue.finish(
+                    queue.next(10, Duration.ZERO).orElseThrow(),
+                    List.of(CreateJob.builder()
+                            .id(third.getId())
+                            .status(CreateJob.Status.FAILED)
+                            .build()));
+        }
+
+        try (CreateJobQueue queue = open(10)) {
+            List<CreateJobQueue.Pending> pending = queue.next(10, Duration.ZERO).orElseThrow().jobs();
+
+            assertEquals(
+                    List.of(first.getId(), second.getId()),
+                    pending.stream().map(CreateJobQueue.Pending::id).toList());
+            assertEquals("John Doe", pending.get(0).input().getName());
+            assertEquals(CreateJob.Status.QUEUED, queue.status(first.getId()).orElseThrow().getStatus());
+        }
+    }
+
+    @Test
+    void finish_RemovesJobAndKeepsOutcome() throws Exception {
+        try (CreateJobQueue queue = open(10)) {
+            CreateJob job = queue.submit(input("John Doe"));
+            Employee employee = Employee.builder().id(UUID.randomUUID()).name("John Doe").build();
+
+            queue.finish(
+                    queue.next(10, Duration.ZERO).orElseThrow(),
+                    List.of(CreateJob.builder()
+                            .id(job.getId())
+                            .status(CreateJob.Status.CREATED)
+                            .employee(employee)
+                            .build()));
+
+            CreateJob finished = queue.status(job.getId()).orElseThrow();
+            assertEquals(CreateJob.Status.CREATED, finished.getStatus());
+            assertEquals(employee, finished.getEmployee());
+            assertEquals(job.getSubmittedAt(), finished.getSubmittedAt());
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test
+    void next_UnansweredBatch_HandedOutUnchangedAcrossRestart() throws Exception {
+        CreateJobQueue.Batch batch;
+        try (CreateJobQueue queue = open(10)) {
+            queue.submit(input("John Doe"));
+            batch = queue.next(10, Duration.ZERO).orElseThrow();
+            queue.submit(input("Jane Smith"));
+
+            assertEquals(batch, queue.next(10, Duration.ZERO).orElseThrow());
+        }
+
+        try (CreateJobQueue queue = open(10)) {
+            assertEquals(batch, queue.next(10, Duration.ZERO).orElseThrow());
+
+            queue.finish(batch, List.of());
+            CreateJobQueue.Batch after = queue.next(10, Duration.ZERO).orElseThrow();
+            assertNotEquals(batch.key(), after.key());
+            assertEquals(2, after.jobs().size());
+        }
+    }
+
+    @Test
+    void concurrentSubmits_SharingForces_AllRecoveredInQueueOrder() throws Exception {
+        List<UUID> order;
+        try (CreateJobQueue queue = open(1000, true)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<CreateJob>> futures = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    String name = "Employee " + i;
+                    futures.add(executor.submit(() -> queue.submit(input(name))));
+                }
+                for (Future<CreateJob> future : futures) {
+                    assertEquals(CreateJob.Status.QUEUED, future.get().getStatus());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            order = ids(queue.next(1000, Duration.ZERO).orElseThrow());
+            assertEquals(400, order.size());
+        }
+
+        try (CreateJobQueue queue = open(1000, true)) {
+            assertEquals(order, ids(queue.next(1000, Duration.ZERO).orElseThrow()));
+        }
+    }
+
+    @Test
+    void tornLastLine_IsDroppedOnRecovery() throws Exception {
+        CreateJob job;
+        try (CreateJobQueue queue = open(10)) {
+            job = queue.submit(input("John Doe"));
+        }
+        Files.writeString(directory.resolve("create-jobs.log"), "{\"job\":{\"id\":", StandardOpenOption.APPEND);
+
+        try (CreateJobQueue queue = open(10)) {
+            assertEquals(1, queue.size());
+            assertTrue(queue.status(job.getId()).isPresent());
+        }
+    }
+
+    @Test
+    void submit_FullQueue_Rejected() throws Exception {
+        try (CreateJobQueue queue = open(1)) {
+            queue.submit(input("John Doe"));
+
+            assertThrows(WriteQueueFullException.class, () -> queue.submit(input("Jane Smith")));
+        }
+    }
+}
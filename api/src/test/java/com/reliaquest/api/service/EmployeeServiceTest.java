@@ -4,30 +4,47 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.KnownEmployeeIds;
+import com.reliaquest.api.client.EmployeePayloadParser;
+import com.reliaquest.api.client.EmployeeQueryClient;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.BatchItemResult;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,8 +56,14 @@ class EmployeeServiceTest {
     @Mock
     private MeterRegistry meterRegistry;
 
+    @Mock
+    private EmployeeQueryClient queryClient;
+
     private EmployeeService employeeService;
+    private KnownEmployeeIds knownEmployeeIds;
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
     private final String baseUrl = "http://localhost:8112/api/v1/employee";
     private Employee testEmployee;
     private ApiResponse<List<Employee>> listResponse;
@@ -49,7 +72,14 @@ class EmployeeServiceTest {
     @BeforeEach
     void setUp() {
         // Create service instance
-        employeeService = new EmployeeService(restTemplate, meterRegistry);
+        knownEmployeeIds = new KnownEmployeeIds(Duration.ofMinutes(1), Duration.ofSeconds(30));
+        employeeService = new EmployeeService(
+                restTemplate,
+                meterRegistry,
+                new EmployeePayloadParser(objectMapper),
+                knownEmployeeIds,
+                queryClient,
+                cacheManager);
         ReflectionTestUtils.setField(employeeService, "baseUrl", baseUrl);
 
         testEmployee = Employee.builder()
@@ -70,10 +100,43 @@ class EmployeeServiceTest {
         singleResponse.setStatus("Successfully processed request.");
     }
 
+    private void stubEmployeeList(ApiResponse<List<Employee>> response) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        when(restTemplate.execute(
+                        eq(baseUrl), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+                });
+    }
+
+    private void stubEmployeeListAtVersion(ApiResponse<List<Employee>> response, long version) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(response);
+        when(restTemplate.execute(
+                        eq(baseUrl), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    MockClientHttpResponse httpResponse = new MockClientHttpResponse(body, HttpStatus.OK);
+                    httpResponse.getHeaders().add("X-Employee-Version", Long.toString(version));
+                    httpResponse.getHeaders().add("X-Employee-Epoch", "epoch-1");
+                    return extractor.extractData(httpResponse);
+                });
+    }
+
+    private void stubChangesSince(long since, EmployeeChanges changes) {
+        ApiResponse<EmployeeChanges> response = new ApiResponse<>();
+        response.setData(changes);
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/changes?since=" + since),
+                        eq(HttpMethod.GET),
+                        isNull(),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(response));
+    }
+
     @Test
-    void getAllEmployees_Success() {
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(listResponse));
+    void getAllEmployees_Success() throws IOException {
+        stubEmployeeList(listResponse);
 
         try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
                 MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
@@ -102,10 +165,9 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void getAllEmployees_EmptyResponse() {
+    void getAllEmployees_EmptyResponse() throws IOException {
         ApiResponse<List<Employee>> emptyResponse = new ApiResponse<>();
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(emptyResponse));
+        stubEmployeeList(emptyResponse);
 
         try (MockedStatic<Timer> timerMock = mockStatic(Timer.class)) {
 
@@ -127,9 +189,162 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void searchEmployeesByName_Found() {
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(listResponse));
+    void getAllEmployees_RefreshAppliesChangesSinceLastList() throws IOException {
+        ReflectionTestUtils.setField(employeeService, "deltaSyncEnabled", true);
+        Employee created = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Roe")
+                .salary(90000)
+                .build();
+        stubEmployeeListAtVersion(listResponse, 5);
+        stubChangesSince(
+                5,
+                EmployeeChanges.builder()
+                        .epoch("epoch-1")
+                        .version(6)
+                        .changes(List.of(EmployeeChange.builder()
+                                .version(6)
+                                .type(EmployeeChange.Type.CREATED)
+                                .id(created.getId())
+                                .employee(created)
+                                .build()))
+                        .build());
+
+        try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
+                MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
+
+            Timer.Sample mockSample = mock(Timer.Sample.class);
+            Timer.Builder mockTimerBuilder = mock(Timer.Builder.class);
+            Timer mockTimer = mock(Timer.class);
+            Counter.Builder mockCounterBuilder = mock(Counter.Builder.class);
+            Counter mockCounter = mock(Counter.class);
+
+            timerMock.when(() -> Timer.start(any(MeterRegistry.class))).thenReturn(mockSample);
+            timerMock.when(() -> Timer.builder(anyString())).thenReturn(mockTimerBuilder);
+            counterMock.when(() -> Counter.builder(anyString())).thenReturn(mockCounterBuilder);
+
+            when(mockTimerBuilder.description(anyString())).thenReturn(mockTimerBuilder);
+            when(mockTimerBuilder.register(any(MeterRegistry.class))).thenReturn(mockTimer);
+            when(mockCounterBuilder.description(anyString())).thenReturn(mockCounterBuilder);
+            when(mockCounterBuilder.register(any(MeterRegistry.class))).thenReturn(mockCounter);
+
+            employeeService.getAllEmployees();
+            List<Employee> result = employeeService.getAllEmployees();
+
+            assertEquals(List.of(testEmployee, created), result);
+            assertEquals(created, knownEmployeeIds.lookup(created.getId().toString()).orElseThrow());
+        }
+        verify(restTemplate, times(1))
+                .execute(eq(baseUrl), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void getAllEmployees_TruncatedChangeLog_FetchesFullList() throws IOException {
+        ReflectionTestUtils.setField(employeeService, "deltaSyncEnabled", true);
+        stubEmployeeListAtVersion(listResponse, 5);
+        stubChangesSince(
+                5,
+                EmployeeChanges.builder()
+                        .epoch("epoch-1")
+                        .version(20_000)
+                        .truncated(true)
+                        .changes(List.of())
+                        .build());
+
+        try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
+                MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
+
+            Timer.Sample mockSample = mock(Timer.Sample.class);
+            Timer.Builder mockTimerBuilder = mock(Timer.Builder.class);
+            Timer mockTimer = mock(Timer.class);
+            Counter.Builder mockCounterBuilder = mock(Counter.Builder.class);
+            Counter mockCounter = mock(Counter.class);
+
+            timerMock.when(() -> Timer.start(any(MeterRegistry.class))).thenReturn(mockSample);
+            timerMock.when(() -> Timer.builder(anyString())).thenReturn(mockTimerBuilder);
+            counterMock.when(() -> Counter.builder(anyString())).thenReturn(mockCounterBuilder);
+
+            when(mockTimerBuilder.description(anyString())).thenReturn(mockTimerBuilder);
+            when(mockTimerBuilder.register(any(MeterRegistry.class))).thenReturn(mockTimer);
+            when(mockCounterBuilder.description(anyString())).thenReturn(mockCounterBuilder);
+            when(mockCounterBuilder.register(any(MeterRegistry.class))).thenReturn(mockCounter);
+
+            employeeService.getAllEmployees();
+            List<Employee> result = employeeService.getAllEmployees();
+
+            assertEquals(List.of(testEmployee), result);
+        }
+        verify(restTemplate, times(2))
+                .execute(eq(baseUrl), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class));
+    }
+
+    @Test
+    void applyChange_FollowingCachedList_UpdatesItInPlace() throws IOException {
+        List<Employee> cached = fetchListAtVersion(5);
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, cached);
+        Employee created = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Roe")
+                .salary(90000)
+                .build();
+        EmployeeChange change = EmployeeChange.builder()
+                .version(6)
+                .type(EmployeeChange.Type.CREATED)
+                .id(created.getId())
+                .employee(created)
+                .build();
+
+        assertTrue(employeeService.applyChange("epoch-1", change));
+        assertTrue(employeeService.applyChange("epoch-1", change));
+
+        assertEquals(
+                List.of(testEmployee, created),
+                cacheManager.getCache("employees").get(SimpleKey.EMPTY).get());
+        assertEquals(created, knownEmployeeIds.lookup(created.getId().toString()).orElseThrow());
+        assertEquals(testEmployee, knownEmployeeIds.lookup(testEmployee.getId().toString()).orElseThrow());
+    }
+
+    @Test
+    void applyChange_AfterGapOrRestart_LeavesCachedListToBeDropped() throws IOException {
+        List<Employee> cached = fetchListAtVersion(5);
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, cached);
+        EmployeeChange.EmployeeChangeBuilder deleted =
+                EmployeeChange.builder().type(EmployeeChange.Type.DELETED).id(testEmployee.getId());
+
+        assertFalse(employeeService.applyChange("epoch-1", deleted.version(7).build()));
+        assertFalse(employeeService.applyChange("epoch-2", deleted.version(6).build()));
+
+        assertSame(cached, cacheManager.getCache("employees").get(SimpleKey.EMPTY).get());
+    }
+
+    private List<Employee> fetchListAtVersion(long version) throws IOException {
+        stubEmployeeListAtVersion(listResponse, version);
+
+        try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
+                MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
+
+            Timer.Sample mockSample = mock(Timer.Sample.class);
+            Timer.Builder mockTimerBuilder = mock(Timer.Builder.class);
+            Timer mockTimer = mock(Timer.class);
+            Counter.Builder mockCounterBuilder = mock(Counter.Builder.class);
+            Counter mockCounter = mock(Counter.class);
+
+            timerMock.when(() -> Timer.start(any(MeterRegistry.class))).thenReturn(mockSample);
+            timerMock.when(() -> Timer.builder(anyString())).thenReturn(mockTimerBuilder);
+            counterMock.when(() -> Counter.builder(anyString())).thenReturn(mockCounterBuilder);
+
+            when(mockTimerBuilder.description(anyString())).thenReturn(mockTimerBuilder);
+            when(mockTimerBuilder.register(any(MeterRegistry.class))).thenReturn(mockTimer);
+            when(mockCounterBuilder.description(anyString())).thenReturn(mockCounterBuilder);
+            when(mockCounterBuilder.register(any(MeterRegistry.class))).thenReturn(mockCounter);
+
+            return employeeService.getAllEmployees();
+        }
+    }
+
+    @Test
+    void searchEmployeesByName_Found() throws IOException {
+        stubEmployeeList(listResponse);
 
         try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
                 MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
@@ -158,9 +373,8 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void searchEmployeesByName_NotFound() {
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(listResponse));
+    void searchEmployeesByName_NotFound() throws IOException {
+        stubEmployeeList(listResponse);
 
         try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
                 MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
@@ -187,6 +401,17 @@ class EmployeeServiceTest {
         }
     }
 
+    @Test
+    void searchEmployeesByName_PushedDownWhenEnabled() {
+        when(queryClient.isEnabled()).thenReturn(true);
+        when(queryClient.searchByName("John")).thenReturn(List.of(testEmployee));
+
+        List<Employee> result = employeeService.searchEmployeesByName("John");
+
+        assertEquals(List.of(testEmployee), result);
+        verifyNoInteractions(restTemplate);
+    }
+
     @Test
     void getEmployeeById_Found() {
         String id = testEmployee.getId().toString();
@@ -213,7 +438,99 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void getHighestSalary_Success() {
+    void getEmployeeById_NotFound_AnsweredLocallyWhileNegativelyCached() {
+        String id = UUID.randomUUID().toString();
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/" + id), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertFalse(employeeService.getEmployeeById(id).isPresent());
+        assertFalse(employeeService.getEmployeeById(id).isPresent());
+
+        verify(restTemplate, times(1))
+                .exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void getEmployeeById_NotInFreshIdFilter_AnsweredLocally() {
+        knownEmployeeIds.rebuild(List.of(testEmployee), knownEmployeeIds.version());
+
+        Optional<Employee> result = employeeService.getEmployeeById(UUID.randomUUID().toString());
+
+        assertFalse(result.isPresent());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getEmployeeById_InLastListFetch_ServedLocally() {
+        knownEmployeeIds.rebuild(List.of(testEmployee), knownEmployeeIds.version());
+
+        Optional<Employee> result = employeeService.getEmployeeById(testEmployee.getId().toString());
+
+        assertEquals(Optional.of(testEmployee), result);
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getEmployeeById_ListRequestedBeforeLocalWrite_GoesUpstream() {
+        String id = testEmployee.getId().toString();
+        long listVersion = knownEmployeeIds.version();
+        knownEmployeeIds.recordDeleted(UUID.randomUUID());
+        knownEmployeeIds.rebuild(List.of(testEmployee), listVersion);
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/" + id), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(singleResponse));
+
+        assertTrue(employeeService.getEmployeeById(id).isPresent());
+
+        verify(restTemplate, times(1))
+                .exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void getEmployeeById_InvalidId_AnsweredLocally() {
+        Optional<Employee> result = employeeService.getEmployeeById("not-a-uuid");
+
+        assertFalse(result.isPresent());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void createEmployee_NewIdVisibleDespiteEarlierNotFound() {
+        String id = testEmployee.getId().toString();
+        knownEmployeeIds.recordMissing(testEmployee.getId());
+        when(restTemplate.exchange(
+                        eq(baseUrl), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(singleResponse));
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/" + id), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(singleResponse));
+
+        try (MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
+
+            Counter.Builder mockCounterBuilder = mock(Counter.Builder.class);
+            Counter mockCounter = mock(Counter.class);
+
+            counterMock.when(() -> Counter.builder(anyString())).thenReturn(mockCounterBuilder);
+
+            when(mockCounterBuilder.description(anyString())).thenReturn(mockCounterBuilder);
+            when(mockCounterBuilder.register(any(MeterRegistry.class))).thenReturn(mockCounter);
+
+            employeeService.createEmployee(
+                    CreateEmployeeInput.builder()
+                            .name("John Doe")
+                            .salary(75000)
+                            .age(30)
+                            .title("Software Engineer")
+                            .build(),
+                    null);
+        }
+
+        assertTrue(employeeService.getEmployeeById(id).isPresent());
+    }
+
+    @Test
+    void getHighestSalary_Success() throws IOException {
         Employee highEarner = Employee.builder()
                 .id(UUID.randomUUID())
                 .name("Jane Smith")
@@ -223,8 +540,7 @@ class EmployeeServiceTest {
         ApiResponse<List<Employee>> response = new ApiResponse<>();
         response.setData(Arrays.asList(testEmployee, highEarner));
 
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(response));
+        stubEmployeeList(response);
 
         try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
                 MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
@@ -251,7 +567,7 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void getTop10HighestEarningEmployeeNames_Success() {
+    void getTop10HighestEarningEmployeeNames_Success() throws IOException {
         Employee emp1 = Employee.builder().name("Employee1").salary(100000).build();
         Employee emp2 = Employee.builder().name("Employee2").salary(90000).build();
         Employee emp3 = Employee.builder().name("Employee3").salary(80000).build();
@@ -259,8 +575,7 @@ class EmployeeServiceTest {
         ApiResponse<List<Employee>> response = new ApiResponse<>();
         response.setData(Arrays.asList(emp2, emp1, emp3));
 
-        when(restTemplate.exchange(eq(baseUrl), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(response));
+        stubEmployeeList(response);
 
         try (MockedStatic<Timer> timerMock = mockStatic(Timer.class);
                 MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
@@ -290,6 +605,41 @@ class EmployeeServiceTest {
     }
 
     @Test
+    void getTop10HighestEarningEmployeeNames_PushedDownWhenEnabled() {
+        when(queryClient.isEnabled()).thenReturn(true);
+        when(queryClient.topEarnerNames(10)).thenReturn(List.of("John Doe"));
+
+        List<String> result = employeeService.getTop10HighestEarningEmployeeNames();
+
+        assertEquals(List.of("John Doe"), result);
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getHighestSalary_ColdCache_UsesUpstreamAggregate() {
+        when(queryClient.isEnabled()).thenReturn(true);
+        when(queryClient.highestSalary()).thenReturn(150000);
+
+        assertEquals(150000, employeeService.getHighestSalary());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void getHighestSalary_WarmCache_AnsweredFromCachedList() {
+        Employee highEarner = Employee.builder()
+                .id(UUID.randomUUID())
+                .name("Jane Smith")
+                .salary(150000)
+                .build();
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, List.of(testEmployee, highEarner));
+
+        assertEquals(150000, employeeService.getHighestSalary());
+        assertEquals(List.of("Jane Smith", "John Doe"), employeeService.getTop10HighestEarningEmployeeNames());
+        verifyNoInteractions(restTemplate, queryClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
     void createEmployee_Success() {
         CreateEmployeeInput input = CreateEmployeeInput.builder()
                 .name("John Doe")
@@ -312,11 +662,16 @@ class EmployeeServiceTest {
             when(mockCounterBuilder.description(anyString())).thenReturn(mockCounterBuilder);
             when(mockCounterBuilder.register(any(MeterRegistry.class))).thenReturn(mockCounter);
 
-            Employee result = employeeService.createEmployee(input);
+            Employee result = employeeService.createEmployee(input, "key-1");
 
             assertNotNull(result);
             assertEquals(testEmployee.getName(), result.getName());
         }
+        ArgumentCaptor<HttpEntity<CreateEmployeeInput>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate)
+                .exchange(
+                        eq(baseUrl), eq(HttpMethod.POST), request.capture(), any(ParameterizedTypeReference.class));
+        assertEquals("key-1", request.getValue().getHeaders().getFirst("Idempotency-Key"));
     }
 
     @Test
@@ -343,6 +698,31 @@ class EmployeeServiceTest {
         assertEquals("John Doe", result);
     }
 
+    @Test
+    void deleteEmployeeById_NameShared_DoesNotMarkRequestedIdAbsent() {
+        Employee namesake = Employee.builder()
+                .id(UUID.randomUUID())
+                .name(testEmployee.getName())
+                .build();
+        List<Employee> employees = List.of(namesake, testEmployee);
+        knownEmployeeIds.rebuild(employees, knownEmployeeIds.version());
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, employees);
+        ApiResponse<Boolean> deleteResponse = new ApiResponse<>();
+        deleteResponse.setData(true);
+        when(restTemplate.exchange(
+                        eq(baseUrl),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(deleteResponse));
+
+        assertEquals("John Doe", employeeService.deleteEmployeeById(testEmployee.getId().toString()));
+
+        // The upstream may have deleted the namesake instead, so neither id may be answered locally
+        assertFalse(knownEmployeeIds.isDefinitelyAbsent(testEmployee.getId().toString()));
+        assertTrue(knownEmployeeIds.lookup(namesake.getId().toString()).isEmpty());
+    }
+
     @Test
     void deleteEmployeeById_NotFound() {
         String id = UUID.randomUUID().toString();
@@ -353,4 +733,130 @@ class EmployeeServiceTest {
 
         assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeeById(id));
     }
+
+    @Test
+    void createEmployees_RejectedBatch_ReturnsPerItemResults() throws IOException {
+        ApiResponse<List<BatchItemResult>> rejected = new ApiResponse<>();
+        rejected.setData(List.of(
+                BatchItemResult.builder()
+                        .index(0)
+                        .status(BatchItemResult.Status.SKIPPED)
+                        .build(),
+                BatchItemResult.builder()
+                        .index(1)
+                        .status(BatchItemResult.Status.INVALID)
+                        .error("salary must be greater than 0")
+                        .build()));
+        byte[] body = objectMapper.writeValueAsBytes(rejected);
+        HttpClientErrorException badRequest =
+                HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, body, null);
+        badRequest.setBodyConvertFunction(type -> {
+            try {
+                return objectMapper.readValue(body, objectMapper.constructType(type.getType()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/batch"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenThrow(badRequest);
+
+        try (MockedStatic<Counter> counterMock = mockStatic(Counter.class)) {
+
+            Counter.Builder mockCounterBuilder = mock(Counter.Builder.class);
+            Counter mockCounter = mock(Counter.class);
+
+            counterMock.when(() -> Counter.builder(anyString())).thenReturn(mockCounterBuilder);
+
+            when(mockCounterBuilder.description(anyString())).thenReturn(mockCounterBuilder);
+            when(mockCounterBuilder.register(any(MeterRegistry.class))).thenReturn(mockCounter);
+
+            List<BatchItemResult> results = employeeService.createEmployees(
+                    List.of(
+                            CreateEmployeeInput.builder()
+                                    .name("John Doe")
+                                    .salary(75000)
+                                    .age(30)
+                                    .title("Software Engineer")
+                                    .build(),
+                            CreateEmployeeInput.builder()
+                                    .name("Jane Smith")
+                                    .salary(-1)
+                                    .age(30)
+                                    .title("Manager")
+                                    .build()),
+                    "batch-1");
+
+            assertEquals(BatchItemResult.Status.SKIPPED, results.get(0).getStatus());
+            assertEquals(BatchItemResult.Status.INVALID, results.get(1).getStatus());
+            assertEquals("salary must be greater than 0", results.get(1).getError());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteEmployeesById_MapsUpstreamResultsToRequestOrder() {
+        String id = testEmployee.getId().toString();
+        knownEmployeeIds.rebuild(List.of(testEmployee), knownEmployeeIds.version());
+        ApiResponse<List<BatchItemResult>> deleted = new ApiResponse<>();
+        deleted.setData(List.of(BatchItemResult.builder()
+                .index(0)
+                .status(BatchItemResult.Status.DELETED)
+                .employee(testEmployee)
+                .build()));
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/batch"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(deleted));
+
+        List<BatchItemResult> results = employeeService.deleteEmployeesById(List.of("not-a-uuid", id, id));
+
+        assertEquals(BatchItemResult.Status.INVALID, results.get(0).getStatus());
+        assertEquals(BatchItemResult.Status.DELETED, results.get(1).getStatus());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals(BatchItemResult.Status.SKIPPED, results.get(2).getStatus());
+        ArgumentCaptor<HttpEntity<List<Map<String, String>>>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate)
+                .exchange(
+                        eq(baseUrl + "/batch"),
+                        eq(HttpMethod.DELETE),
+                        request.capture(),
+                        any(ParameterizedTypeReference.class));
+        assertEquals(List.of(Map.of("name", "John Doe")), request.getValue().getBody());
+        assertTrue(employeeService.getEmployeeById(id).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteEmployeesById_UpstreamDeletesOlderNamesake_ReportsMismatch() {
+        Employee namesake = Employee.builder()
+                .id(UUID.randomUUID())
+                .name(testEmployee.getName())
+                .build();
+        knownEmployeeIds.rebuild(List.of(namesake, testEmployee), knownEmployeeIds.version());
+        ApiResponse<List<BatchItemResult>> deleted = new ApiResponse<>();
+        deleted.setData(List.of(BatchItemResult.builder()
+                .index(0)
+                .status(BatchItemResult.Status.DELETED)
+                .employee(namesake)
+                .build()));
+        when(restTemplate.exchange(
+                        eq(baseUrl + "/batch"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(deleted));
+
+        List<BatchItemResult> results = employeeService.deleteEmployeesById(List.of(testEmployee.getId().toString()));
+
+        assertEquals(BatchItemResult.Status.MISMATCH, results.get(0).getStatus());
+        assertEquals(namesake, results.get(0).getEmployee());
+        assertTrue(knownEmployeeIds.isDefinitelyAbsent(namesake.getId().toString()));
+        assertFalse(knownEmployeeIds.isDefinitelyAbsent(testEmployee.getId().toString()));
+    }
 }
@@ -0,0 +1,84 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic employee datasets shared by the benchmarks, so numbers stay comparable between runs and commits.
+ */
+public final class EmployeeDatasets {
+
+    public static final long SEED = 0x5EED_2024L;
+
+    private static final String[] FIRST_NAMES = {
+        "Tiger", "Garrett", "Ashton", "Cedric", "Airi", "Brielle", "Herrod", "Rhona", "Colleen", "Sonya", "Jena",
+        "Quinn", "Charde", "Haley", "Tatyana", "Michael", "Paul", "Gloria", "Bradley", "Dai", "Jenette", "Yuri",
+        "Caesar", "Doris", "Angelica", "Gavin", "Jennifer", "Brenden", "Fiona", "Shou", "Michelle", "Suki", "Prescott",
+        "Gavin", "Martena", "Unity", "Howard", "Hope", "Vivian", "Timothy", "Jackson", "Olivia", "Bruno", "Sakura",
+        "Thor", "Finn", "Serge", "Zenaida", "Zorita", "Jennifer", "Cara", "Hermione", "Lael", "Jonas", "Shad",
+        "Michael", "Donna"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Nixon", "Winters", "Cox", "Kelly", "Satou", "Williamson", "Chandler", "Davidson", "Hurst", "Frost", "Gaines",
+        "Flynn", "Marshall", "Kennedy", "Fitzpatrick", "Silva", "Byrd", "Little", "Greer", "Rios", "Caldwell", "Berry",
+        "Vance", "Wilder", "Ramos", "Joyce", "Chang", "Wagner", "Green", "Itou", "House", "Burks", "Bartlett",
+        "Cortez", "Mccray", "Butler", "Hay", "Duke", "Harrell", "Mooney", "Bradshaw", "Liang", "Nash", "Yamamoto",
+        "Walton", "Camacho", "Baldwin", "Frank", "Serrano", "Acosta", "Stevens", "Butler", "Greer", "Alexander",
+        "Decker", "Bruce", "Snider"
+    };
+
+    private static final String[] TITLES = {
+        "Software Engineer",
+        "Senior Software Engineer",
+        "Product Manager",
+        "Accountant",
+        "Chief Executive Officer",
+        "Integration Specialist",
+        "Sales Assistant",
+        "Javascript Developer",
+        "Regional Director",
+        "Systems Administrator",
+        "Marketing Designer",
+        "Technical Author",
+        "Team Leader",
+        "Post-Sales support",
+        "Customer Support",
+        "Office Manager",
+        "Support Lead",
+        "Data Coordinator",
+        "Financial Controller",
+        "Development Lead"
+    };
+
+    private EmployeeDatasets() {}
+
+    public static List<Employee> employees(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(first + " " + last)
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email((first.charAt(0) + last + i).toLowerCase() + "@company.com")
+                    .build());
+        }
+        return employees;
+    }
+
+    public static ApiResponse<List<Employee>> listResponse(int size) {
+        ApiResponse<List<Employee>> response = new ApiResponse<>();
+        response.setData(employees(size));
+        response.setStatus("Successfully processed request.");
+        return response;
+    }
+}
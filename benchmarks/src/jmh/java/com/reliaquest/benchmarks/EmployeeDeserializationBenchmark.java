@@ -0,0 +1,81 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.client.EmployeePayloadParser;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson binding of the upstream {@code GET /api/v1/employee} payload into {@code ApiResponse<List<Employee>>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeDeserializationBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Employee>>> LIST_RESPONSE = new TypeReference<>() {};
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader listResponseReader;
+    private EmployeePayloadParser payloadParser;
+    private byte[] payload;
+    private byte[] smilePayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        listResponseReader = objectMapper.readerFor(LIST_RESPONSE);
+        payloadParser = new EmployeePayloadParser(objectMapper);
+        payload = objectMapper.writeValueAsBytes(EmployeeDatasets.listResponse(size));
+        smilePayload = new ObjectMapper(new SmileFactory()).writeValueAsBytes(EmployeeDatasets.listResponse(size));
+    }
+
+    /**
+     * Generic binding as the RestTemplate message converter does it, resolving the generic type on every call.
+     */
+    @Benchmark
+    public ApiResponse<List<Employee>> typeReferencePerCall() throws IOException {
+        return objectMapper.readValue(payload, new TypeReference<ApiResponse<List<Employee>>>() {});
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> preResolvedReader() throws IOException {
+        return listResponseReader.readValue(payload);
+    }
+
+    /**
+     * The ingest path {@code EmployeeService} uses: a single pass over the token stream straight into
+     * the compact {@link EmployeeSnapshot}, with no envelope.
+     */
+    @Benchmark
+    public EmployeeSnapshot streamingParser() throws IOException {
+        return payloadParser.readEmployeeList(new ByteArrayInputStream(payload));
+    }
+
+    /**
+     * The same pass over the Smile encoding the mock server sends when asked for it.
+     */
+    @Benchmark
+    public EmployeeSnapshot streamingParserSmile() throws IOException {
+        return payloadParser.readEmployeeList(new ByteArrayInputStream(smilePayload), EmployeePayloadParser.SMILE);
+    }
+}
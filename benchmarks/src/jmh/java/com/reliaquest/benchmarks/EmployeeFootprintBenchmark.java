@@ -0,0 +1,71 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Heap cost of one cached employee list as {@link Employee} DTOs versus an {@link EmployeeSnapshot}.
+ *
+ * <p>Both benchmarks build the full structure from the same source fields the way deserialization would (fresh
+ * strings and boxes per record) and keep nothing else, so with {@code -prof gc} the {@code gc.alloc.rate.norm} divided
+ * by {@code size} is the retained bytes per employee.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeFootprintBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Employee> source;
+
+    @Setup
+    public void setUp() {
+        source = EmployeeDatasets.employees(size);
+    }
+
+    @Benchmark
+    public List<Employee> employeeDtos() {
+        List<Employee> employees = new ArrayList<>(size);
+        for (Employee employee : source) {
+            UUID id = employee.getId();
+            employees.add(Employee.builder()
+                    .id(new UUID(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                    .name(copy(employee.getName()))
+                    .salary(Integer.valueOf(employee.getSalary()))
+                    .age(Integer.valueOf(employee.getAge()))
+                    .title(copy(employee.getTitle()))
+                    .email(copy(employee.getEmail()))
+                    .build());
+        }
+        return employees;
+    }
+
+    @Benchmark
+    public EmployeeSnapshot snapshot() {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(size);
+        for (Employee employee : source) {
+            builder.add(employee);
+        }
+        return builder.build();
+    }
+
+    /** A string with its own backing array; {@code new String(String)} would share the source's. */
+    private static String copy(String value) {
+        return new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
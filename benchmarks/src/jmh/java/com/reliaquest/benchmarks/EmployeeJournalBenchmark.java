@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.FileEmployeeJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Durable create throughput of the mock server's write-ahead log. With {@code fsync} on, one writer pays a full force
+ * per record while concurrent writers share one per batch, so the gap between the two methods is what group commit
+ * buys; with it off the numbers are the framing and write cost alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmployeeJournalBenchmark {
+
+    @Param({"true", "false"})
+    private boolean fsync;
+
+    private Path directory;
+    private FileEmployeeJournal journal;
+    private MockEmployee employee;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("employee-journal");
+        journal = new FileEmployeeJournal(directory, fsync, 1024);
+        journal.recover();
+        journal.startSegment();
+        employee = MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Tiger Nixon")
+                .salary(320800)
+                .age(61)
+                .title("System Architect")
+                .email("tnixon@company.com")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void appendSingleWriter() {
+        journal.appendCreated(employee).join();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void appendConcurrentWriters() {
+        journal.appendCreated(employee).join();
+    }
+}
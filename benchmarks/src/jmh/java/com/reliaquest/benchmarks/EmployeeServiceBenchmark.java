@@ -0,0 +1,77 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.KnownEmployeeIds;
+import com.reliaquest.api.client.EmployeePayloadParser;
+import com.reliaquest.api.client.EmployeeQueryClient;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Hot read paths of {@link EmployeeService} over a warm {@code employees} cache of varying size, as they run between
+ * list refreshes. The list is parsed once in setup; parsing itself is measured by {@link
+ * EmployeeDeserializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"an"})
+    private String searchString;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Employee> employees = EmployeeDatasets.employees(size);
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("employees");
+        cacheManager.getCache("employees").put(SimpleKey.EMPTY, EmployeeSnapshot.of(employees));
+
+        StubRestTemplate restTemplate = new StubRestTemplate(EmployeeDatasets.listResponse(size));
+        employeeService = new EmployeeService(
+                restTemplate,
+                new SimpleMeterRegistry(),
+                new EmployeePayloadParser(new ObjectMapper()),
+                new KnownEmployeeIds(Duration.ofMinutes(1), Duration.ofSeconds(30)),
+                new EmployeeQueryClient(restTemplate),
+                cacheManager);
+        Field baseUrl = EmployeeService.class.getDeclaredField("baseUrl");
+        baseUrl.setAccessible(true);
+        baseUrl.set(employeeService, "http://localhost:8112/api/v1/employee");
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployeesByName() {
+        return employeeService.searchEmployeesByName(searchString);
+    }
+
+    @Benchmark
+    public Integer getHighestSalary() {
+        return employeeService.getHighestSalary();
+    }
+
+    @Benchmark
+    public List<String> getTop10HighestEarningEmployeeNames() {
+        return employeeService.getTop10HighestEarningEmployeeNames();
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Answers every call with a pre-built body so benchmarks measure the service, not the network. Streaming calls get
+ * the body pre-serialized to JSON, so they still pay for parsing as they would against the real upstream.
+ */
+class StubRestTemplate extends RestTemplate {
+
+    private final Object body;
+    private final byte[] payload;
+
+    StubRestTemplate(Object body) throws JsonProcessingException {
+        this.body = body;
+        this.payload = new ObjectMapper().writeValueAsBytes(body);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> exchange(
+            String url,
+            HttpMethod method,
+            HttpEntity<?> requestEntity,
+            ParameterizedTypeReference<T> responseType,
+            Object... uriVariables) {
+        return (ResponseEntity<T>) ResponseEntity.ok(body);
+    }
+
+    @Override
+    public <T> T execute(
+            String url,
+            HttpMethod method,
+            RequestCallback requestCallback,
+            ResponseExtractor<T> responseExtractor,
+            Object... uriVariables) {
+        try {
+            return responseExtractor.extractData(new PayloadResponse(payload));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record PayloadResponse(byte[] payload) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(payload);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return headers;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The {@code IEmployeeController} operations the load generator can drive.
+ */
+enum Endpoint {
+    GET_ALL("getAll"),
+    SEARCH("search"),
+    GET_BY_ID("byId"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint '" + key + "', expected one of "
+                        + Arrays.toString(Arrays.stream(values()).map(Endpoint::key).toArray())));
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-endpoint latency histograms. Response time is measured from the <em>intended</em> start of a request in the
+ * open-model schedule, which corrects for coordinated omission; service time (from the actual send) is kept alongside
+ * so the two can be compared.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final Stats overall = new Stats();
+
+    LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+    }
+
+    void record(Endpoint endpoint, long intendedNanos, long sentNanos, long completedNanos, int status) {
+        long responseMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, completedNanos - intendedNanos));
+        long serviceMicros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, completedNanos - sentNanos));
+        stats.get(endpoint).record(responseMicros, serviceMicros, status);
+        overall.record(responseMicros, serviceMicros, status);
+    }
+
+    void dropped(Endpoint endpoint) {
+        stats.get(endpoint).dropped.increment();
+        overall.dropped.increment();
+    }
+
+    LoadReport.EndpointReport overall(double seconds) {
+        return overall.toReport(seconds);
+    }
+
+    Map<String, LoadReport.EndpointReport> endpoints(double seconds) {
+        Map<String, LoadReport.EndpointReport> reports = new TreeMap<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            if (endpointStats.count() > 0 || endpointStats.dropped.sum() > 0) {
+                reports.put(endpoint.key(), endpointStats.toReport(seconds));
+            }
+        });
+        return reports;
+    }
+
+    private static final class Stats {
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder dropped = new LongAdder();
+
+        void record(long responseMicros, long serviceMicros, int status) {
+            responseTime.recordValue(Math.min(responseMicros, HIGHEST_TRACKABLE_MICROS));
+            serviceTime.recordValue(Math.min(serviceMicros, HIGHEST_TRACKABLE_MICROS));
+            statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+        }
+
+        long count() {
+            return responseTime.getTotalCount();
+        }
+
+        LoadReport.EndpointReport toReport(double seconds) {
+            Map<String, Long> statusCounts = new TreeMap<>();
+            long errors = 0;
+            for (Map.Entry<Integer, LongAdder> entry : statuses.entrySet()) {
+                long value = entry.getValue().sum();
+                statusCounts.put(entry.getKey() < 0 ? "io_error" : String.valueOf(entry.getKey()), value);
+                if (entry.getKey() < 0 || entry.getKey() >= 500 || entry.getKey() == 429) {
+                    errors += value;
+                }
+            }
+            return new LoadReport.EndpointReport(
+                    count(),
+                    errors,
+                    dropped.sum(),
+                    seconds > 0 ? count() / seconds : 0,
+                    statusCounts,
+                    LoadReport.Percentiles.of(responseTime),
+                    LoadReport.Percentiles.of(serviceTime));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Machine-readable result of a load test run. Keys are sorted so two reports can be diffed between commits.
+ */
+record LoadReport(
+        Map<String, Object> config,
+        String startedAt,
+        double measuredSeconds,
+        EndpointReport overall,
+        Map<String, EndpointReport> endpoints,
+        long upstreamCalls,
+        double upstreamCallsPerRequest) {
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValue(path.toFile(), this);
+    }
+
+    record EndpointReport(
+            long requests,
+            long errors,
+            long dropped,
+            double throughputPerSecond,
+            Map<String, Long> statuses,
+            Percentiles responseTimeMicros,
+            Percentiles serviceTimeMicros) {}
+
+    record Percentiles(long p50, long p90, long p99, long p999, long max, double mean) {
+
+        static Percentiles of(Histogram histogram) {
+            if (histogram.getTotalCount() == 0) {
+                return new Percentiles(0, 0, 0, 0, 0, 0);
+            }
+            return new Percentiles(
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue(),
+                    histogram.getMean());
+        }
+    }
+}
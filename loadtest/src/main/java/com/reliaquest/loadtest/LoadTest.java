@@ -0,0 +1,328 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load generator. Boots {@code server} and {@code api} on loopback (unless {@code loadtest.api-url} points
+ * at a running api), replays an open-model traffic mix seeded from the Postman collection against the
+ * {@code IEmployeeController} endpoints and writes a JSON report with throughput, coordinated-omission-corrected
+ * latency percentiles and the number of upstream calls the api made.
+ */
+public final class LoadTest {
+
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+    private static final String UNKNOWN_ID = "00000000-0000-0000-0000-000000000000";
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> knownIds = new ArrayList<>();
+    private final AtomicLong createSequence = new AtomicLong();
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestConfig.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        if (config.apiUrl() != null) {
+            drive(config.apiUrl());
+            return;
+        }
+        try (ServiceProcess server = ServiceProcess.start(
+                "server",
+                config.javaExecutable(),
+                config.serverJar(),
+                config.serverArgs(),
+                List.of(),
+                config.workDir())) {
+            server.awaitListening(Duration.ofMinutes(2));
+            try (ServiceProcess api = ServiceProcess.start(
+                    "api",
+                    config.javaExecutable(),
+                    config.apiJar(),
+                    config.apiArgs(),
+                    List.of("--employee.api.base-url=" + server.baseUrl() + EMPLOYEE_PATH),
+                    config.workDir())) {
+                api.awaitListening(Duration.ofMinutes(2));
+                drive(api.baseUrl());
+            }
+        }
+    }
+
+    private void drive(String apiUrl) throws Exception {
+        PostmanSeed seed = PostmanSeed.load(config.postman(), objectMapper);
+        TrafficMix mix = TrafficMix.parse(config.mix());
+        ExecutorService callbacks = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(callbacks)
+                .build();
+
+        try {
+            seedKnownIds(client, apiUrl);
+            long upstreamBefore = upstreamCalls(client, apiUrl);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            Instant startedAt = Instant.now();
+            runSchedule(client, apiUrl, seed, mix, recorder);
+
+            long upstreamAfter = upstreamCalls(client, apiUrl);
+            double seconds = config.duration().toMillis() / 1000.0;
+            LoadReport.EndpointReport overall = recorder.overall(seconds);
+            long upstreamCalls = upstreamBefore >= 0 && upstreamAfter >= 0 ? upstreamAfter - upstreamBefore : -1;
+
+            LoadReport report = new LoadReport(
+                    describeConfig(mix, seed),
+                    startedAt.toString(),
+                    seconds,
+                    overall,
+                    recorder.endpoints(seconds),
+                    upstreamCalls,
+                    upstreamCalls >= 0 && overall.requests() > 0 ? (double) upstreamCalls / overall.requests() : -1);
+            report.write(config.report());
+            printSummary(report);
+        } finally {
+            callbacks.shutdownNow();
+        }
+    }
+
+    /**
+     * Open model: arrivals follow the configured schedule regardless of how quickly earlier requests complete.
+     */
+    private void runSchedule(
+            HttpClient client, String apiUrl, PostmanSeed seed, TrafficMix mix, LatencyRecorder recorder)
+            throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        AtomicInteger inFlight = new AtomicInteger();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond();
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        double offset = 0;
+
+        for (long sequence = 0; ; sequence++) {
+            offset += config.poissonArrivals() ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            long intended = start + (long) offset;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = mix.next(random);
+            boolean measured = intended >= measureFrom;
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (measured) {
+                    recorder.dropped(endpoint);
+                }
+                continue;
+            }
+
+            HttpRequest request = buildRequest(apiUrl, endpoint, seed, random, sequence);
+            inFlight.incrementAndGet();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                long completed = System.nanoTime();
+                inFlight.decrementAndGet();
+                if (measured) {
+                    recorder.record(endpoint, intended, sent, completed, response != null ? response.statusCode() : -1);
+                }
+                if (response != null) {
+                    onResponse(endpoint, response);
+                }
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + config.requestTimeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private HttpRequest buildRequest(
+            String apiUrl, Endpoint endpoint, PostmanSeed seed, SplittableRandom random, long sequence) {
+        String base = apiUrl + EMPLOYEE_PATH;
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(config.requestTimeout());
+        return switch (endpoint) {
+            case GET_ALL -> builder.uri(URI.create(base)).GET().build();
+            case SEARCH -> builder.uri(URI.create(base + "/search/"
+                            + URLEncoder.encode(seed.searchTerm(sequence), StandardCharsets.UTF_8)
+                                    .replace("+", "%20")))
+                    .GET()
+                    .build();
+            case GET_BY_ID -> builder.uri(URI.create(base + "/" + pickId(random, false)))
+                    .GET()
+                    .build();
+            case HIGHEST_SALARY -> builder.uri(URI.create(base + "/highestSalary"))
+                    .GET()
+                    .build();
+            case TOP_TEN -> builder.uri(URI.create(base + "/topTenHighestEarningEmployeeNames"))
+                    .GET()
+                    .build();
+            case CREATE -> builder.uri(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(seed.createBody(createSequence.incrementAndGet())))
+                    .build();
+            case DELETE -> builder.uri(URI.create(base + "/" + pickId(random, true)))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    private String pickId(SplittableRandom random, boolean remove) {
+        synchronized (knownIds) {
+            if (knownIds.isEmpty()) {
+                return UNKNOWN_ID;
+            }
+            int index = random.nextInt(knownIds.size());
+            if (!remove) {
+                return knownIds.get(index);
+            }
+            // Swap-remove keeps deletes O(1); the order of known ids carries no meaning
+            String id = knownIds.get(index);
+            knownIds.set(index, knownIds.get(knownIds.size() - 1));
+            knownIds.remove(knownIds.size() - 1);
+            return id;
+        }
+    }
+
+    private void onResponse(Endpoint endpoint, HttpResponse<String> response) {
+        if (endpoint != Endpoint.CREATE || response.statusCode() != 201) {
+            return;
+        }
+        try {
+            String id = objectMapper.readTree(response.body()).path("id").asText(null);
+            if (id != null) {
+                synchronized (knownIds) {
+                    knownIds.add(id);
+                }
+            }
+        } catch (IOException e) {
+            // An unreadable create response only means one fewer id to look up or delete
+        }
+    }
+
+    private void seedKnownIds(HttpClient client, String apiUrl) throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(apiUrl + EMPLOYEE_PATH))
+                            .timeout(config.requestTimeout())
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                for (JsonNode employee : objectMapper.readTree(response.body())) {
+                    if (employee.hasNonNull("id")) {
+                        knownIds.add(employee.get("id").asText());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not seed employee ids: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Requests the api made to the upstream so far, from the RestTemplate observation metric. {@code -1} if the
+     * metrics endpoint is unavailable.
+     */
+    private long upstreamCalls(HttpClient client, String apiUrl) throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(URI.create(apiUrl + "/actuator/metrics/http.client.requests"))
+                            .timeout(config.requestTimeout())
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 404) {
+                return 0; // the meter only exists after the first upstream call
+            }
+            if (response.statusCode() != 200) {
+                return -1;
+            }
+            for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+                if ("COUNT".equals(measurement.path("statistic").asText())) {
+                    return measurement.path("value").asLong();
+                }
+            }
+            return 0;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private Map<String, Object> describeConfig(TrafficMix mix, PostmanSeed seed) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("ratePerSecond", config.ratePerSecond());
+        description.put("durationSeconds", config.duration().toSeconds());
+        description.put("warmupSeconds", config.warmup().toSeconds());
+        description.put("arrival", config.poissonArrivals() ? "poisson" : "constant");
+        description.put("seed", config.seed());
+        description.put("maxInFlight", config.maxInFlight());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.weights().forEach((endpoint, weight) -> weights.put(endpoint.key(), weight));
+        description.put("mix", weights);
+        description.put("searchTerms", seed.searchTerms());
+        description.put("target", config.apiUrl() != null ? config.apiUrl() : "loopback");
+        return description;
+    }
+
+    private void printSummary(LoadReport report) {
+        System.out.printf(
+                "%-14s %9s %7s %8s %10s %10s %10s %10s%n",
+                "endpoint",
+                "requests",
+                "errors",
+                "req/s",
+                "p50 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms");
+        report.endpoints().forEach((name, endpoint) -> printRow(name, endpoint));
+        printRow("overall", report.overall());
+        System.out.printf(
+                "upstream calls: %d (%.3f per request)%nreport: %s%n",
+                report.upstreamCalls(), report.upstreamCallsPerRequest(), config.report());
+    }
+
+    private static void printRow(String name, LoadReport.EndpointReport endpoint) {
+        LoadReport.Percentiles latency = endpoint.responseTimeMicros();
+        System.out.printf(
+                "%-14s %9d %7d %8.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                endpoint.requests(),
+                endpoint.errors(),
+                endpoint.throughputPerSecond(),
+                latency.p50() / 1000.0,
+                latency.p99() / 1000.0,
+                latency.p999() / 1000.0,
+                latency.max() / 1000.0);
+    }
+}
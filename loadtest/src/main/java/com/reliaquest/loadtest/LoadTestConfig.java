@@ -0,0 +1,63 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param apiUrl base url of an already running api; when {@code null} server and api are booted on loopback
+ */
+record LoadTestConfig(
+        double ratePerSecond,
+        Duration duration,
+        Duration warmup,
+        String mix,
+        String arrival,
+        long seed,
+        int maxInFlight,
+        Duration requestTimeout,
+        String apiUrl,
+        Path serverJar,
+        Path apiJar,
+        String javaExecutable,
+        String serverArgs,
+        String apiArgs,
+        Path postman,
+        Path workDir,
+        Path report) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Double.parseDouble(property("rate", "20")),
+                Duration.ofSeconds(Long.parseLong(property("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(property("warmup", "5"))),
+                property("mix", TrafficMix.DEFAULT),
+                property("arrival", "poisson"),
+                Long.parseLong(property("seed", "42")),
+                Integer.parseInt(property("max-in-flight", "1000")),
+                Duration.ofSeconds(Long.parseLong(property("timeout", "10"))),
+                property("api-url", null),
+                path(property("server-jar", null)),
+                path(property("api-jar", null)),
+                property("java", "java"),
+                property("server-args", ""),
+                property("api-args", ""),
+                path(property("postman", "employee-api-postman.json")),
+                path(property("work-dir", "build/loadtest")),
+                path(property("report", "build/reports/loadtest/report.json")));
+    }
+
+    boolean poissonArrivals() {
+        return "poisson".equalsIgnoreCase(arrival);
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static Path path(String value) {
+        return value == null ? null : Path.of(value);
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request inputs taken from {@code employee-api-postman.json}: the search fragments and create bodies that the
+ * collection exercises, so generated traffic stays close to what the team actually sends.
+ */
+final class PostmanSeed {
+
+    private static final String DEFAULT_CREATE_BODY =
+            "{\"name\": \"Load Test\", \"salary\": 50000, \"age\": 30, \"title\": \"Developer\"}";
+
+    private final List<String> searchTerms;
+    private final List<ObjectNode> createBodies;
+
+    private PostmanSeed(List<String> searchTerms, List<ObjectNode> createBodies) {
+        this.searchTerms = searchTerms;
+        this.createBodies = createBodies;
+    }
+
+    static PostmanSeed load(Path collection, ObjectMapper objectMapper) throws IOException {
+        List<String> searchTerms = new ArrayList<>();
+        List<ObjectNode> createBodies = new ArrayList<>();
+        if (collection != null && Files.exists(collection)) {
+            JsonNode root = objectMapper.readTree(collection.toFile());
+            for (JsonNode item : root.path("item")) {
+                JsonNode request = item.path("request");
+                String method = request.path("method").asText();
+                List<String> path = new ArrayList<>();
+                request.path("url").path("path").forEach(segment -> path.add(segment.asText()));
+
+                int size = path.size();
+                if ("GET".equals(method) && size >= 2 && "search".equals(path.get(size - 2))) {
+                    searchTerms.add(path.get(size - 1));
+                } else if ("POST".equals(method) && request.path("body").hasNonNull("raw")) {
+                    JsonNode body = objectMapper.readTree(
+                            request.path("body").path("raw").asText());
+                    if (body instanceof ObjectNode objectNode) {
+                        createBodies.add(objectNode);
+                    }
+                }
+            }
+        }
+        if (searchTerms.isEmpty()) {
+            searchTerms.add("a");
+        }
+        if (createBodies.isEmpty()) {
+            createBodies.add((ObjectNode) objectMapper.readTree(DEFAULT_CREATE_BODY));
+        }
+        return new PostmanSeed(List.copyOf(searchTerms), List.copyOf(createBodies));
+    }
+
+    String searchTerm(long sequence) {
+        return searchTerms.get((int) (sequence % searchTerms.size()));
+    }
+
+    /**
+     * A create body from the collection with a unique name suffix, so load-test records are recognisable.
+     */
+    String createBody(long sequence) {
+        ObjectNode body = createBodies.get((int) (sequence % createBodies.size())).deepCopy();
+        body.put("name", body.path("name").asText("Load Test") + " LT" + sequence);
+        return body.toString();
+    }
+
+    List<String> searchTerms() {
+        return searchTerms;
+    }
+}
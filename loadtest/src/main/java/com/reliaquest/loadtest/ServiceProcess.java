@@ -0,0 +1,89 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Spring Boot jar started as a child process on a loopback port. Each service runs in its own JVM so the two
+ * {@code application.yml} files and bean graphs never meet.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private final String name;
+    private final int port;
+    private final Process process;
+    private final Path log;
+
+    private ServiceProcess(String name, int port, Process process, Path log) {
+        this.name = name;
+        this.port = port;
+        this.process = process;
+        this.log = log;
+    }
+
+    static ServiceProcess start(
+            String name, String javaExecutable, Path jar, String extraArgs, List<String> args, Path workDir)
+            throws IOException {
+        if (jar == null || !Files.exists(jar)) {
+            throw new IllegalStateException("Boot jar for " + name + " not found: " + jar);
+        }
+        Files.createDirectories(workDir);
+        int port = freePort();
+        Path log = workDir.resolve(name + ".log");
+
+        List<String> command = new ArrayList<>(List.of(javaExecutable, "-jar", jar.toString(), "--server.port=" + port));
+        command.addAll(args);
+        if (!extraArgs.isBlank()) {
+            command.addAll(Arrays.asList(extraArgs.trim().split("\\s+")));
+        }
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(name, port, process, log);
+    }
+
+    void awaitListening(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ", see " + log);
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("127.0.0.1", port), 200);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(200);
+            }
+        }
+        throw new IllegalStateException(name + " did not start listening on " + port + " within " + timeout);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        }
+    }
+}
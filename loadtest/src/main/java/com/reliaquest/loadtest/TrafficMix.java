@@ -0,0 +1,68 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted choice of endpoints, parsed from {@code getAll=30,search=20,...}.
+ */
+final class TrafficMix {
+
+    static final String DEFAULT = "getAll=30,search=20,byId=20,highestSalary=10,topTen=10,create=5,delete=5";
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final Map<Endpoint, Integer> weights;
+
+    private TrafficMix(Map<Endpoint, Integer> weights) {
+        this.weights = weights;
+        this.endpoints = new Endpoint[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            endpoints[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Traffic mix needs at least one positive weight");
+        }
+        this.totalWeight = total;
+    }
+
+    static TrafficMix parse(String spec) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] keyValue = part.split("=", 2);
+            int weight = keyValue.length == 2 ? Integer.parseInt(keyValue[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in traffic mix: " + part);
+            }
+            if (weight > 0) {
+                weights.merge(Endpoint.fromKey(keyValue[0]), weight, Integer::sum);
+            }
+        }
+        return new TrafficMix(weights);
+    }
+
+    Endpoint next(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    Map<Endpoint, Integer> weights() {
+        return weights;
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+
+/**
+ * Generates the seed employees in parallel, in fixed-size chunks. Each chunk has its own {@link Faker} and
+ * {@link Random} derived from the seed and the chunk number, so the threads share nothing and the same seed always
+ * yields the same employees, in the same order, however the chunks are scheduled.
+ */
+@Slf4j
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final Locale locale;
+    private final long seed;
+
+    public MockEmployeeGenerator(Locale locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        long start = System.nanoTime();
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<List<MockEmployee>> generated = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .toList();
+        List<MockEmployee> employees = new ArrayList<>(count);
+        generated.forEach(employees::addAll);
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info(
+                "Generated {} mock employees in {} ms ({} per second) from seed {}",
+                count,
+                elapsedMillis,
+                count * 1000L / elapsedMillis,
+                seed);
+        return employees;
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        // SplittableRandom-style mixing keeps neighbouring chunks' streams unrelated
+        Random random = new Random(mix(seed + chunk * 0x9E3779B97F4A7C15L));
+        Faker faker = new Faker(locale, random);
+        List<MockEmployee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build());
+        }
+        return employees;
+    }
+
+    /** A version 4 UUID drawn from {@code random} rather than the shared secure random, so it is reproducible. */
+    private static UUID randomUuid(Random random) {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(msb, lsb);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.persistence.EmployeeJournal;
+import com.reliaquest.server.persistence.FileEmployeeJournal;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfiguration {
+
+    /*
+     * Off by default, so every run starts from freshly generated data as before. The journal is closed on shutdown.
+     */
+    @Bean
+    public EmployeeJournal employeeJournal(
+            @Value("${mock.persistence.enabled:false}") boolean enabled,
+            @Value("${mock.persistence.directory:data}") Path directory,
+            @Value("${mock.persistence.fsync:true}") boolean fsync,
+            @Value("${mock.persistence.max-batch:1024}") int maxBatch)
+            throws IOException {
+        return enabled ? new FileEmployeeJournal(directory, fsync, maxBatch) : EmployeeJournal.NONE;
+    }
+}
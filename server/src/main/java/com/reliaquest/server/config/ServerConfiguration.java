@@ -1,59 +1,100 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.web.FaultInjectionInterceptor;
+import com.reliaquest.server.web.FaultInjector;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.web.TokenBucketRateLimitInterceptor;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import lombok.extern.slf4j.Slf4j;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final String ADMIN_PATHS = "/admin/**";
+
+    private final FaultInjector faultInjector;
+
+    /*
+     * Binary Smile for clients that send Accept: application/x-jackson-smile; JSON stays the default.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Initial data only; CRUD operations go through MockEmployeeStore, which indexes a copy of it. Without
+     * mock.employees.seed a random seed is used and logged, so any run's dataset can be reproduced. The locale is a
+     * property rather than the JVM default, so the same seed gives the same names and titles on every host.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<MockEmployee> mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.locale:en-US}") String locale) {
+        final long effectiveSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        return new MockEmployeeGenerator(Locale.forLanguageTag(locale), effectiveSeed).generate(maxEmployees);
     }
 
+    /*
+     * random: the original global limit of 5-10 requests with a 30-90 second backoff, chosen at startup.
+     * token-bucket: per-client limits from mock.rate-limit.*, see TokenBucketRateLimitInterceptor.
+     * off: no limit.
+     */
+    @Value("${mock.rate-limit.mode:random}")
+    private String rateLimitMode;
+
+    @Value("${mock.rate-limit.rate:10}")
+    private double rateLimitRate;
+
+    @Value("${mock.rate-limit.burst:20}")
+    private int rateLimitBurst;
+
+    @Value("${mock.rate-limit.client-header:X-Client-Id}")
+    private String rateLimitClientHeader;
+
+    @Value("${mock.rate-limit.max-clients:10000}")
+    private int rateLimitMaxClients;
+
+    /*
+     * Rate limits apply before injected faults, so a throttled request is not delayed first. Neither applies to the
+     * admin endpoints.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        switch (rateLimitMode) {
+            case "random" -> registry.addInterceptor(new RandomRequestLimitInterceptor())
+                    .excludePathPatterns(ADMIN_PATHS);
+            case "token-bucket" -> registry.addInterceptor(new TokenBucketRateLimitInterceptor(
+                            rateLimitRate,
+                            rateLimitBurst,
+                            rateLimitClientHeader,
+                            rateLimitMaxClients,
+                            System::nanoTime))
+                    .excludePathPatterns(ADMIN_PATHS);
+            case "off" -> {}
+            default -> throw new IllegalStateException("Unknown mock.rate-limit.mode: " + rateLimitMode);
+        }
+        registry.addInterceptor(new FaultInjectionInterceptor(faultInjector)).excludePathPatterns(ADMIN_PATHS);
     }
 }
@@ -0,0 +1,43 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.FaultSettings;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjector;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Switches fault injection at runtime. Not subject to faults or rate limits itself.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultAdminController {
+
+    private final FaultInjector faultInjector;
+
+    @GetMapping
+    public Response<FaultSettings> getFaults() {
+        return Response.handledWith(faultInjector.settings());
+    }
+
+    @PutMapping
+    public Response<FaultSettings> setFaults(@RequestBody FaultSettings settings) {
+        return Response.handledWith(faultInjector.configure(settings));
+    }
+
+    /**
+     * Stops injecting faults; the seed is kept.
+     */
+    @DeleteMapping
+    public Response<FaultSettings> clearFaults() {
+        return Response.handledWith(
+                faultInjector.configure(new FaultSettings(faultInjector.settings().seed(), Map.of())));
+    }
+}
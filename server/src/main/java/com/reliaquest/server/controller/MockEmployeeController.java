@@ -1,34 +1,96 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeEventBroadcaster;
+import com.reliaquest.server.service.IdempotencyStore;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String VERSION_HEADER = "X-Employee-Version";
+    public static final String EPOCH_HEADER = "X-Employee-Epoch";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeChangeLog changeLog;
+    private final EmployeeEventBroadcaster eventBroadcaster;
+    private final IdempotencyStore idempotencyStore;
 
+    /**
+     * The full list, with the change log position it reflects so clients can continue from it via {@code /changes}.
+     * With any {@link EmployeeQuery} parameter only the matching page is returned, without a position.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(EmployeeQuery query) {
+        if (!query.isEmpty()) {
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.query(query)));
+        }
+        final var snapshot = mockEmployeeService.getMockEmployees();
+        return ResponseEntity.ok()
+                .header(VERSION_HEADER, Long.toString(snapshot.version()))
+                .header(EPOCH_HEADER, changeLog.getEpoch())
+                .body(Response.handledWith(snapshot.employees()));
+    }
+
+    @GetMapping("/changes")
+    public Response<EmployeeChanges> getChanges(@RequestParam("since") long since) {
+        return Response.handledWith(changeLog.since(since));
+    }
+
+    /**
+     * Highest salary of all employees, or no data when none has a salary. Maintained incrementally, so it costs no
+     * scan.
+     */
+    @GetMapping("/aggregates/highest-salary")
+    public Response<Integer> getHighestSalary() {
+        final var highest = mockEmployeeService.highestSalary();
+        return highest.isPresent() ? Response.handledWith(highest.getAsInt()) : Response.handled();
+    }
+
+    /**
+     * Names of the {@code limit} highest earners, highest first.
+     */
+    @GetMapping("/aggregates/top-earners")
+    public Response<List<String>> getTopEarnerNames(@RequestParam(name = "limit", defaultValue = "10") int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        return Response.handledWith(mockEmployeeService.topEarnerNames(limit));
+    }
+
+    /**
+     * Live stream of creates and deletes; see {@link EmployeeEventBroadcaster} for resuming with {@code Last-Event-ID}.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return eventBroadcaster.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
@@ -39,13 +101,51 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /**
+     * With an {@code Idempotency-Key}, a repeat of an earlier request returns the employee it created instead of
+     * creating another; see {@link IdempotencyStore}.
+     */
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public Response<MockEmployee> createEmployee(
+            @Valid @RequestBody CreateMockEmployeeInput input,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Response.handledWith(mockEmployeeService.create(input));
+        }
+        return Response.handledWith(
+                idempotencyStore.execute("create", idempotencyKey, input, () -> mockEmployeeService.create(input)));
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Creates all employees atomically. If any item is invalid nothing is created, and the 400 response still carries
+     * the per-item results so the client can tell which items to fix. An {@code Idempotency-Key} works as for single
+     * creates.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<BatchItemResult>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        final var results = idempotencyKey == null
+                ? mockEmployeeService.createAll(inputs)
+                : idempotencyStore.execute(
+                        "batch", idempotencyKey, inputs, () -> mockEmployeeService.createAll(inputs));
+        if (results.stream().anyMatch(result -> result.status() != BatchItemResult.Status.CREATED)) {
+            return ResponseEntity.badRequest()
+                    .body(new Response<>(results, Response.Status.ERROR, "Batch rejected, nothing was created"));
+        }
+        return ResponseEntity.ok(Response.handledWith(results));
+    }
+
+    /**
+     * Deletes the oldest employee by each name under one store lock, with a per-item result.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<BatchItemResult>> deleteEmployees(@RequestBody List<DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
 }
@@ -1,15 +1,54 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.service.IdempotencyStore;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleBadRequest(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity.badRequest()
+                .body(Response.error("Invalid value '" + ex.getValue() + "' for parameter " + ex.getName()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleMissingParameter(MissingServletRequestParameterException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    /** Query parameters bound into an {@code EmployeeQuery}, or {@code @Valid} bodies, that do not bind or validate. */
+    @ExceptionHandler
+    protected ResponseEntity<?> handleBindFailure(BindException ex) {
+        String message = ex.getFieldErrors().stream()
+                .map(error -> error.getField() + ": "
+                        + (error.isBindingFailure()
+                                ? "invalid value '" + error.getRejectedValue() + "'"
+                                : error.getDefaultMessage()))
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.badRequest().body(Response.error(message.isEmpty() ? "Invalid request" : message));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleKeyReused(IdempotencyStore.KeyReusedException ex) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
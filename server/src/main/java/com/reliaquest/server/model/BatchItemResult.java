@@ -0,0 +1,24 @@
+package com.reliaquest.server.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch create or delete, at {@code index} in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResult(int index, Status status, MockEmployee employee, String error) {
+
+    public enum Status {
+        CREATED,
+        DELETED,
+        NOT_FOUND,
+        /** The item failed validation, so the batch was rejected. */
+        INVALID,
+        /** The item was valid, but the batch was rejected for another one. */
+        SKIPPED
+    }
+
+    public static BatchItemResult of(int index, Status status, MockEmployee employee) {
+        return new BatchItemResult(index, status, employee, null);
+    }
+}
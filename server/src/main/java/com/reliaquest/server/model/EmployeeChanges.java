@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Answer to "what changed since version N". {@code truncated} means the log no longer reaches back to N (or N belongs to
+ * another {@code epoch}, i.e. a previous server run) and the client has to fetch the full list again.
+ */
+public record EmployeeChanges(String epoch, long version, boolean truncated, List<EmployeeChange> changes) {}
@@ -0,0 +1,29 @@
+package com.reliaquest.server.model;
+
+/**
+ * Optional filters, ordering and paging for {@code GET /api/v1/employee}, bound from query parameters.
+ *
+ * <p>{@code sort} is {@code name}, {@code salary} or {@code age}, descending with a leading {@code -}; employees without
+ * the sort value come last, and ties keep list order. Ranges are inclusive.
+ */
+public record EmployeeQuery(
+        String nameContains,
+        Integer minSalary,
+        Integer maxSalary,
+        Integer minAge,
+        Integer maxAge,
+        String sort,
+        Integer limit,
+        Integer offset) {
+
+    public boolean isEmpty() {
+        return nameContains == null
+                && minSalary == null
+                && maxSalary == null
+                && minAge == null
+                && maxAge == null
+                && sort == null
+                && limit == null
+                && offset == null;
+    }
+}
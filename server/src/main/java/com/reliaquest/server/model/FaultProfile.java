@@ -0,0 +1,31 @@
+package com.reliaquest.server.model;
+
+/**
+ * What to do to requests for one endpoint; every field is optional.
+ *
+ * <ul>
+ *   <li>{@code latency}: {@code FIXED} waits {@code latencyMs}; {@code LOGNORMAL} waits a lognormal time with median
+ *       {@code latencyMs} and shape {@code sigma}; {@code BIMODAL} does the same around {@code slowLatencyMs} for a
+ *       {@code slowRate} share of requests and around {@code latencyMs} for the rest. {@code maxLatencyMs} caps it.
+ *   <li>{@code errorRate}: share of requests answered with {@code errorStatus} (500 by default) after the wait.
+ *   <li>{@code resetRate}: share of requests whose connection is dropped after the headers, before the promised body.
+ * </ul>
+ */
+public record FaultProfile(
+        Latency latency,
+        long latencyMs,
+        double sigma,
+        long slowLatencyMs,
+        double slowRate,
+        long maxLatencyMs,
+        double errorRate,
+        int errorStatus,
+        double resetRate) {
+
+    public enum Latency {
+        NONE,
+        FIXED,
+        LOGNORMAL,
+        BIMODAL
+    }
+}
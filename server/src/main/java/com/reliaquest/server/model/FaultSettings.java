@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import java.util.Map;
+
+/**
+ * Fault profiles by endpoint, as {@code "<METHOD> <path pattern>"} (e.g. {@code "GET /api/v1/employee/{id}"}), a
+ * pattern alone for every method, or {@code "*"} for all other requests. The same seed gives every endpoint the same
+ * sequence of faults, request by request.
+ */
+public record FaultSettings(Long seed, Map<String, FaultProfile> endpoints) {}
@@ -0,0 +1,65 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Durable record of the employee store: a log of creates and deletes, cut into segments, and snapshots of the whole
+ * store taken at segment boundaries. Appends are made in the order the store applies the writes, and their futures
+ * complete once the record is on disk.
+ */
+public interface EmployeeJournal extends AutoCloseable {
+
+    /** Keeps nothing; the store starts from the generated data on every run. */
+    EmployeeJournal NONE = new EmployeeJournal() {
+        @Override
+        public Optional<List<MockEmployee>> recover() {
+            return Optional.empty();
+        }
+
+        @Override
+        public CompletableFuture<Void> appendCreated(MockEmployee employee) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> appendDeleted(UUID id) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public long startSegment() {
+            return 0;
+        }
+
+        @Override
+        public void writeSnapshot(long segment, List<MockEmployee> employees) {}
+    };
+
+    /**
+     * Employees as the previous run left them, in insertion order, or empty when there is nothing to recover.
+     */
+    Optional<List<MockEmployee>> recover();
+
+    CompletableFuture<Void> appendCreated(MockEmployee employee);
+
+    CompletableFuture<Void> appendDeleted(UUID id);
+
+    /**
+     * Starts a new log segment after everything appended so far and returns its number. Called under the store's write
+     * lock, so a snapshot taken in the same critical section holds exactly the records of the earlier segments.
+     */
+    long startSegment();
+
+    /**
+     * Persists {@code employees} as the state at the start of {@code segment}; older segments and snapshots are then
+     * no longer needed and are deleted.
+     */
+    void writeSnapshot(long segment, List<MockEmployee> employees);
+
+    @Override
+    default void close() {}
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Binary layout of journal records: the id as two longs, nullable numbers behind a presence byte and nullable strings
+ * as a UTF-8 length (-1 for null) followed by the bytes.
+ */
+final class EmployeeRecordCodec {
+
+    static final byte CREATED = 1;
+    static final byte DELETED = 2;
+
+    private EmployeeRecordCodec() {}
+
+    static byte[] encodeCreated(MockEmployee employee) {
+        byte[] name = utf8(employee.getName());
+        byte[] title = utf8(employee.getTitle());
+        byte[] email = utf8(employee.getEmail());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16 + 2 * 5 + 3 * 4 + length(name) + length(title) + length(email));
+        buffer.put(CREATED);
+        putUuid(buffer, employee.getId());
+        putBytes(buffer, name);
+        putInteger(buffer, employee.getSalary());
+        putInteger(buffer, employee.getAge());
+        putBytes(buffer, title);
+        putBytes(buffer, email);
+        return buffer.array();
+    }
+
+    static byte[] encodeDeleted(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 16);
+        buffer.put(DELETED);
+        putUuid(buffer, id);
+        return buffer.array();
+    }
+
+    /** Reads the employee of a {@link #CREATED} record, positioned just after the type byte. */
+    static MockEmployee readEmployee(ByteBuffer buffer) {
+        return MockEmployee.builder()
+                .id(readUuid(buffer))
+                .name(readString(buffer))
+                .salary(readInteger(buffer))
+                .age(readInteger(buffer))
+                .title(readString(buffer))
+                .email(readString(buffer))
+                .build();
+    }
+
+    static UUID readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private static void putInteger(ByteBuffer buffer, Integer value) {
+        buffer.put((byte) (value != null ? 1 : 0)).putInt(value != null ? value : 0);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes != null ? bytes.length : -1);
+        if (bytes != null) {
+            buffer.put(bytes);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+}
@@ -0,0 +1,475 @@
+package com.reliaquest.server.persistence;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link EmployeeJournal} in a directory of log segments ({@code wal-<n>.log}) and snapshots
+ * ({@code snapshot-<n>.bin}).
+ *
+ * <p>Each log record is framed as {@code [int length][int CRC32C][payload]}. Appends are queued and written by a single
+ * thread, which takes everything queued since its last write, writes it in one go and then forces it to disk once, so
+ * concurrent writers share an fsync (group commit) instead of paying one each. A snapshot is the full store, its
+ * records framed by length and followed by a CRC32C of the file; it is written to a temporary file, forced and renamed
+ * into place.
+ *
+ * <p>Recovery maps the newest readable snapshot and the segments from its number on into memory and replays them. A
+ * log record that is short or fails its checksum ends its segment: it can only be a write torn by a crash, which was
+ * never acknowledged. Every run appends to a new segment and a batch that fails partway is cut off again, so a torn
+ * tail is never written after.
+ */
+@Slf4j
+public class FileEmployeeJournal implements EmployeeJournal {
+
+    private static final int SNAPSHOT_MAGIC = 0x454D5053; // "EMPS"
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final int SNAPSHOT_HEADER = 4 + 4 + 8 + 4;
+    private static final int RECORD_HEADER = 4 + 4;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final Pattern SEGMENT_FILE = Pattern.compile("wal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final Pending STOP = new Pending(null, -1, new CompletableFuture<>());
+
+    private final Path directory;
+    private final boolean fsync;
+    private final int maxBatch;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    // Only touched by the writer thread
+    private final ByteBuffer batchBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CRC32C writerChecksum = new CRC32C();
+    private FileChannel segment;
+    /** End of the last batch written to {@link #segment} in full. */
+    private long segmentEnd;
+
+    /** Highest segment number handed out; callers serialize recover and startSegment. */
+    private long lastSegment;
+
+    private volatile CompletableFuture<Void> lastRotation = CompletableFuture.completedFuture(null);
+    private volatile boolean closed;
+
+    public FileEmployeeJournal(Path directory, boolean fsync, int maxBatch) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.fsync = fsync;
+        this.maxBatch = maxBatch;
+        this.writer = new Thread(this::writeLoop, "employee-wal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public Optional<List<MockEmployee>> recover() {
+        long start = System.nanoTime();
+        NavigableMap<Long, Path> snapshots = list(SNAPSHOT_FILE);
+        NavigableMap<Long, Path> segments = list(SEGMENT_FILE);
+        lastSegment = Math.max(
+                snapshots.isEmpty() ? 0 : snapshots.lastKey(), segments.isEmpty() ? 0 : segments.lastKey());
+        if (snapshots.isEmpty() && segments.isEmpty()) {
+            log.info("No employee journal in {}, starting from generated data", directory);
+            return Optional.empty();
+        }
+
+        Map<UUID, MockEmployee> employees = new LinkedHashMap<>();
+        long replayFrom = 0;
+        for (Map.Entry<Long, Path> snapshot : snapshots.descendingMap().entrySet()) {
+            try {
+                readSnapshot(snapshot.getValue(), employees);
+                replayFrom = snapshot.getKey();
+                break;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable snapshot {}: {}", snapshot.getValue(), e.getMessage());
+                employees.clear();
+            }
+        }
+        long records = 0;
+        for (Path segmentFile : segments.tailMap(replayFrom, true).values()) {
+            records += replay(segmentFile, employees);
+        }
+        log.info(
+                "Recovered {} employees from snapshot {} and {} log records in {} ms",
+                employees.size(),
+                replayFrom,
+                records,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return Optional.of(new ArrayList<>(employees.values()));
+    }
+
+    @Override
+    public CompletableFuture<Void> appendCreated(MockEmployee employee) {
+        return append(EmployeeRecordCodec.encodeCreated(employee));
+    }
+
+    @Override
+    public CompletableFuture<Void> appendDeleted(UUID id) {
+        return append(EmployeeRecordCodec.encodeDeleted(id));
+    }
+
+    @Override
+    public long startSegment() {
+        long number = ++lastSegment;
+        Pending rotation = new Pending(null, number, new CompletableFuture<>());
+        lastRotation = rotation.done();
+        queue.add(rotation);
+        return number;
+    }
+
+    @Override
+    public void writeSnapshot(long segmentNumber, List<MockEmployee> employees) {
+        // Once the segment is open, every record the snapshot replaces is in an earlier one
+        lastRotation.join();
+        long start = System.nanoTime();
+        Path target = directory.resolve(snapshotName(segmentNumber));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(
+                    temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                CRC32C checksum = new CRC32C();
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                buffer.putInt(SNAPSHOT_MAGIC)
+                        .putInt(SNAPSHOT_FORMAT)
+                        .putLong(segmentNumber)
+                        .putInt(employees.size());
+                for (MockEmployee employee : employees) {
+                    byte[] payload = EmployeeRecordCodec.encodeCreated(employee);
+                    if (4 + payload.length > buffer.remaining()) {
+                        writeChecksummed(out, buffer, checksum);
+                    }
+                    if (4 + payload.length > buffer.remaining()) {
+                        ByteBuffer large = ByteBuffer.allocate(4 + payload.length);
+                        writeChecksummed(out, large.putInt(payload.length).put(payload), checksum);
+                    } else {
+                        buffer.putInt(payload.length).put(payload);
+                    }
+                }
+                writeChecksummed(out, buffer, checksum);
+                buffer.putInt((int) checksum.getValue());
+                buffer.flip();
+                writeFully(out, buffer);
+                out.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // The rename has to survive a crash before the files it replaces may go
+            forceDirectory();
+            deleteBefore(segmentNumber);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write employee snapshot " + target, e);
+        }
+        log.info(
+                "Wrote snapshot of {} employees at segment {} in {} ms",
+                employees.size(),
+                segmentNumber,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        queue.add(STOP);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<Void> append(byte[] payload) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Employee journal is closed"));
+        }
+        Pending pending = new Pending(payload, 0, new CompletableFuture<>());
+        queue.add(pending);
+        return pending.done();
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+            running = writeBatch(batch);
+            batch.clear();
+        }
+        closeSegment();
+        List<Pending> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.done().completeExceptionally(new IOException("Employee journal closed")));
+    }
+
+    /**
+     * Writes the records between rotations with one force each; returns false once {@link #STOP} is reached.
+     */
+    private boolean writeBatch(List<Pending> batch) {
+        int from = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Pending pending = batch.get(i);
+            if (pending.payload() != null) {
+                continue;
+            }
+            flush(batch.subList(from, i));
+            from = i + 1;
+            if (pending == STOP) {
+                batch.subList(from, batch.size())
+                        .forEach(p -> p.done().completeExceptionally(new IOException("Employee journal closed")));
+                return false;
+            }
+            rotate(pending);
+        }
+        flush(batch.subList(from, batch.size()));
+        return true;
+    }
+
+    private void flush(List<Pending> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            if (segment == null) {
+                throw new IOException("No log segment is open");
+            }
+            batchBuffer.clear();
+            for (Pending record : records) {
+                byte[] payload = record.payload();
+                if (RECORD_HEADER + payload.length > batchBuffer.remaining()) {
+                    batchBuffer.flip();
+                    writeFully(segment, batchBuffer);
+                    batchBuffer.clear();
+                }
+                writerChecksum.reset();
+                writerChecksum.update(payload);
+                ByteBuffer target = RECORD_HEADER + payload.length > batchBuffer.remaining()
+                        ? ByteBuffer.allocate(RECORD_HEADER + payload.length)
+                        : batchBuffer;
+                target.putInt(payload.length).putInt((int) writerChecksum.getValue()).put(payload);
+                if (target != batchBuffer) {
+                    target.flip();
+                    writeFully(segment, target);
+                }
+            }
+            batchBuffer.flip();
+            writeFully(segment, batchBuffer);
+            if (fsync) {
+                segment.force(false);
+            }
+            segmentEnd = segment.position();
+            records.forEach(record -> record.done().complete(null));
+        } catch (IOException e) {
+            log.error("Failed to append {} employee journal records", records.size(), e);
+            records.forEach(record -> record.done().completeExceptionally(e));
+            discardFailedBatch();
+        }
+    }
+
+    /**
+     * Cuts what a failed batch left of itself off the segment, since replay stops at the first broken record and would
+     * drop every record appended after it. If that fails too the segment is closed, and appends fail until the next
+     * rotation rather than being written where they could not be recovered.
+     */
+    private void discardFailedBatch() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.truncate(segmentEnd);
+            segment.position(segmentEnd);
+            if (fsync) {
+                segment.force(false);
+            }
+        } catch (IOException e) {
+            log.error("Failed to discard a failed write from the employee journal, closing the segment", e);
+            closeSegment();
+        }
+    }
+
+    private void rotate(Pending rotation) {
+        closeSegment();
+        Path file = directory.resolve(segmentName(rotation.segment()));
+        try {
+            segment = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            segmentEnd = 0;
+            if (fsync) {
+                // Forcing records into the segment does not make its directory entry durable
+                forceDirectory();
+            }
+            log.debug("Appending employee journal records to {}", file);
+            rotation.done().complete(null);
+        } catch (IOException e) {
+            log.error("Failed to open employee journal segment {}", file, e);
+            closeSegment();
+            rotation.done().completeExceptionally(e);
+        }
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.force(false);
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Failed to close employee journal segment: {}", e.getMessage());
+        }
+        segment = null;
+    }
+
+    private static void readSnapshot(Path file, Map<UUID, MockEmployee> employees) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer map = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            if (map.limit() < SNAPSHOT_HEADER + 4
+                    || map.getInt() != SNAPSHOT_MAGIC
+                    || map.getInt() != SNAPSHOT_FORMAT) {
+                throw new IOException("not a snapshot");
+            }
+            CRC32C checksum = new CRC32C();
+            checksum.update(map.slice(0, map.limit() - 4));
+            if ((int) checksum.getValue() != map.getInt(map.limit() - 4)) {
+                throw new IOException("checksum mismatch");
+            }
+            map.getLong(); // segment, also in the file name
+            int count = map.getInt();
+            for (int i = 0; i < count; i++) {
+                int length = map.getInt();
+                ByteBuffer record = map.slice(map.position(), length);
+                map.position(map.position() + length);
+                record.get(); // always CREATED
+                MockEmployee employee = EmployeeRecordCodec.readEmployee(record);
+                employees.put(employee.getId(), employee);
+            }
+        }
+    }
+
+    private static long replay(Path file, Map<UUID, MockEmployee> employees) {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer map = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            CRC32C checksum = new CRC32C();
+            long records = 0;
+            int validEnd = 0;
+            while (map.remaining() >= RECORD_HEADER) {
+                int length = map.getInt();
+                int expected = map.getInt();
+                if (length <= 0 || length > map.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = map.slice(map.position(), length);
+                checksum.reset();
+                checksum.update(payload.duplicate());
+                if ((int) checksum.getValue() != expected) {
+                    break;
+                }
+                map.position(map.position() + length);
+                apply(payload, employees);
+                records++;
+                validEnd = map.position();
+            }
+            if (validEnd < map.limit()) {
+                log.warn("Ignoring {} bytes of torn log at the end of {}", map.limit() - validEnd, file);
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay employee journal segment " + file, e);
+        }
+    }
+
+    private static void apply(ByteBuffer payload, Map<UUID, MockEmployee> employees) {
+        byte type = payload.get();
+        if (type == EmployeeRecordCodec.CREATED) {
+            MockEmployee employee = EmployeeRecordCodec.readEmployee(payload);
+            employees.put(employee.getId(), employee);
+        } else if (type == EmployeeRecordCodec.DELETED) {
+            employees.remove(EmployeeRecordCodec.readUuid(payload));
+        }
+    }
+
+    private static void writeChecksummed(FileChannel out, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        writeFully(out, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private void forceDirectory() throws IOException {
+        FileChannel entries;
+        try {
+            entries = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            // Directories cannot be opened on Windows, where a rename or create is durable without this
+            log.debug("Cannot force employee journal directory {}: {}", directory, e.getMessage());
+            return;
+        }
+        try (entries) {
+            entries.force(true);
+        }
+    }
+
+    private void deleteBefore(long segmentNumber) throws IOException {
+        for (Path file : list(SNAPSHOT_FILE).headMap(segmentNumber, false).values()) {
+            Files.deleteIfExists(file);
+        }
+        for (Path file : list(SEGMENT_FILE).headMap(segmentNumber, false).values()) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private NavigableMap<Long, Path> list(Pattern pattern) {
+        NavigableMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    files.put(Long.parseLong(matcher.group(1)), file);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list employee journal " + directory, e);
+        }
+        return files;
+    }
+
+    private static String segmentName(long number) {
+        return "wal-%016d.log".formatted(number);
+    }
+
+    private static String snapshotName(long number) {
+        return "snapshot-%016d.bin".formatted(number);
+    }
+
+    /** A log record to append, or a rotation to {@code segment} when {@code payload} is null. */
+    private record Pending(byte[] payload, long segment, CompletableFuture<Void> done) {}
+}
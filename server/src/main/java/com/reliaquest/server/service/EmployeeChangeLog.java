@@ -0,0 +1,82 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, in-order log of employee creates and deletes. Every change gets the next version, so versions are
+ * contiguous and "changes since N" is answerable exactly as long as the oldest retained change is at most N + 1.
+ *
+ * <p>Versions restart with the server; the random {@code epoch} tells clients a version from a previous run apart.
+ *
+ * <p>Listeners are called in version order while the log is locked, so they must only hand the change off.
+ */
+@Component
+public class EmployeeChangeLog {
+
+    @Getter
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final int capacity;
+    private final Deque<EmployeeChange> changes = new ArrayDeque<>();
+    private final List<Consumer<EmployeeChange>> listeners = new CopyOnWriteArrayList<>();
+    private long version;
+
+    public EmployeeChangeLog(@Value("${mock.changes.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void addListener(Consumer<EmployeeChange> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized EmployeeChange recordCreated(MockEmployee employee) {
+        return append(EmployeeChange.created(++version, employee));
+    }
+
+    public synchronized EmployeeChange recordDeleted(MockEmployee employee) {
+        return append(EmployeeChange.deleted(++version, employee));
+    }
+
+    /**
+     * Changes after version {@code since}, oldest first, or a truncated answer when the log cannot cover them.
+     */
+    public synchronized EmployeeChanges since(long since) {
+        if (since > version || since < version - changes.size()) {
+            return new EmployeeChanges(epoch, version, true, List.of());
+        }
+        List<EmployeeChange> newer = new ArrayList<>((int) (version - since));
+        Iterator<EmployeeChange> newestFirst = changes.descendingIterator();
+        while (newer.size() < version - since) {
+            newer.add(newestFirst.next());
+        }
+        Collections.reverse(newer);
+        return new EmployeeChanges(epoch, version, false, newer);
+    }
+
+    private EmployeeChange append(EmployeeChange change) {
+        changes.addLast(change);
+        if (changes.size() > capacity) {
+            changes.removeFirst();
+        }
+        listeners.forEach(listener -> listener.accept(change));
+        return change;
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.server.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snapshots the store into the journal periodically, so recovery replays at most one interval of log records, and
+ * once more on shutdown. Intervals without writes are skipped.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock.persistence.enabled", havingValue = "true")
+public class EmployeeCheckpointer {
+
+    private final MockEmployeeStore store;
+    private final ScheduledExecutorService checkpointThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Change log version of the last snapshot; the recovered state has none in this run. */
+    private volatile long checkpointedVersion = -1;
+
+    public EmployeeCheckpointer(
+            MockEmployeeStore store, @Value("${mock.persistence.snapshot-interval:5m}") Duration interval) {
+        this.store = store;
+        checkpointThread.scheduleWithFixedDelay(
+                this::checkpointIfChanged, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        checkpointThread.shutdown();
+        checkpointThread.awaitTermination(30, TimeUnit.SECONDS);
+        checkpointIfChanged();
+    }
+
+    private void checkpointIfChanged() {
+        if (store.snapshot().version() == checkpointedVersion) {
+            return;
+        }
+        try {
+            checkpointedVersion = store.checkpoint();
+        } catch (RuntimeException e) {
+            log.error("Failed to checkpoint the employee store", e);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeChange;
+import com.reliaquest.server.model.EmployeeChanges;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the {@link EmployeeChangeLog} to server-sent event subscribers.
+ *
+ * <p>Every change is sent as a {@code change} event whose id is {@code <epoch>:<version>}. A subscriber that reconnects
+ * with that id in {@code Last-Event-ID} first gets the changes it missed; one without an id, from another server run,
+ * or too far behind for the log gets a {@code reset} event instead, carrying the current position, and should drop
+ * whatever it holds. Replays, live changes and heartbeats all go through one thread, so each subscriber sees changes
+ * in version order without gaps; a change may arrive twice around a reconnect.
+ */
+@Slf4j
+@Component
+public class EmployeeEventBroadcaster {
+
+    private final EmployeeChangeLog changeLog;
+    private final long timeoutMillis;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService eventThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmployeeEventBroadcaster(
+            EmployeeChangeLog changeLog,
+            @Value("${mock.events.timeout:30m}") Duration timeout,
+            @Value("${mock.events.heartbeat:15s}") Duration heartbeat) {
+        this.changeLog = changeLog;
+        this.timeoutMillis = timeout.toMillis();
+        changeLog.addListener(change -> eventThread.execute(() -> broadcast(change)));
+        eventThread.scheduleAtFixedRate(
+                this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitters.remove(emitter));
+        eventThread.execute(() -> replayAndRegister(emitter, lastEventId));
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventThread.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void replayAndRegister(SseEmitter emitter, String lastEventId) {
+        Long since = versionOf(lastEventId);
+        EmployeeChanges backlog = since != null
+                ? changeLog.since(since)
+                : new EmployeeChanges(changeLog.getEpoch(), changeLog.version(), true, List.of());
+        try {
+            if (backlog.truncated()) {
+                emitter.send(SseEmitter.event()
+                        .id(eventId(backlog.version()))
+                        .name("reset")
+                        .data(backlog, MediaType.APPLICATION_JSON));
+            } else {
+                for (EmployeeChange change : backlog.changes()) {
+                    send(emitter, change);
+                }
+            }
+            emitters.add(emitter);
+            log.debug("Employee event subscriber registered from {}", lastEventId);
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void broadcast(EmployeeChange change) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                send(emitter, change);
+            } catch (IOException e) {
+                drop(emitter, e);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            } catch (IOException e) {
+                drop(emitter, e);
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, EmployeeChange change) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(eventId(change.version()))
+                .name("change")
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    private void drop(SseEmitter emitter, IOException e) {
+        log.debug("Dropping employee event subscriber: {}", e.getMessage());
+        emitters.remove(emitter);
+        emitter.completeWithError(e);
+    }
+
+    private String eventId(long version) {
+        return changeLog.getEpoch() + ":" + version;
+    }
+
+    /** The version in an event id from this server run, or null. */
+    private Long versionOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(changeLog.getEpoch() + ":")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(changeLog.getEpoch().length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
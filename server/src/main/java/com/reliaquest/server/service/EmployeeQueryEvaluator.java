@@ -0,0 +1,112 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Evaluates an {@link EmployeeQuery} in one pass over a store snapshot. Filters are checked per employee without
+ * allocating; with a sort and a limit only the best {@code offset + limit} matches are kept in a bounded heap, so a
+ * top-N query costs O(n log N) instead of sorting every match.
+ */
+public final class EmployeeQueryEvaluator {
+
+    private EmployeeQueryEvaluator() {}
+
+    public static List<MockEmployee> evaluate(List<MockEmployee> employees, EmployeeQuery query) {
+        int offset = query.offset() != null ? query.offset() : 0;
+        if (offset < 0 || (query.limit() != null && query.limit() < 0)) {
+            throw new IllegalArgumentException("limit and offset must not be negative");
+        }
+        Comparator<Ranked> order = comparator(query.sort());
+        long keep = query.limit() != null ? (long) offset + query.limit() : Long.MAX_VALUE;
+
+        List<Ranked> matches = new ArrayList<>();
+        PriorityQueue<Ranked> best = order != null && keep < Integer.MAX_VALUE
+                // Sized by what the list can hold, not the client's limit, which may be far larger
+                ? new PriorityQueue<>((int) Math.min(keep, employees.size()) + 1, order.reversed())
+                : null;
+        for (int i = 0; i < employees.size(); i++) {
+            MockEmployee employee = employees.get(i);
+            if (!matches(employee, query)) {
+                continue;
+            }
+            Ranked ranked = new Ranked(i, employee);
+            if (best == null) {
+                matches.add(ranked);
+                if (order == null && matches.size() >= keep) {
+                    break; // list order: nothing later can displace what we have
+                }
+            } else if (best.size() < keep) {
+                best.add(ranked);
+            } else if (keep > 0 && order.compare(ranked, best.peek()) < 0) {
+                best.poll();
+                best.add(ranked);
+            }
+        }
+        if (best != null) {
+            matches.addAll(best);
+        }
+        if (order != null) {
+            matches.sort(order);
+        }
+        List<MockEmployee> page = new ArrayList<>();
+        for (int i = offset; i < matches.size() && i < keep; i++) {
+            page.add(matches.get(i).employee());
+        }
+        return page;
+    }
+
+    private static boolean matches(MockEmployee employee, EmployeeQuery query) {
+        return (query.nameContains() == null || containsIgnoreCase(employee.getName(), query.nameContains()))
+                && inRange(employee.getSalary(), query.minSalary(), query.maxSalary())
+                && inRange(employee.getAge(), query.minAge(), query.maxAge());
+    }
+
+    private static boolean containsIgnoreCase(String value, String fragment) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i + fragment.length() <= value.length(); i++) {
+            if (value.regionMatches(true, i, fragment, 0, fragment.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private static Comparator<Ranked> comparator(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        boolean descending = sort.startsWith("-");
+        String key = descending ? sort.substring(1) : sort;
+        Comparator<Ranked> byKey =
+                switch (key) {
+                    case "name" -> by(MockEmployee::getName, descending);
+                    case "salary" -> by(MockEmployee::getSalary, descending);
+                    case "age" -> by(MockEmployee::getAge, descending);
+                    default -> throw new IllegalArgumentException("Unknown sort key: " + key);
+                };
+        return byKey.thenComparingInt(Ranked::position);
+    }
+
+    private static <T extends Comparable<T>> Comparator<Ranked> by(
+            Function<MockEmployee, T> property, boolean descending) {
+        Comparator<T> values = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        return Comparator.comparing(ranked -> property.apply(ranked.employee()), Comparator.nullsLast(values));
+    }
+
+    private record Ranked(int position, MockEmployee employee) {}
+}
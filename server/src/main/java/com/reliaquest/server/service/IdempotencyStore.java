@@ -0,0 +1,113 @@
+package com.reliaquest.server.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Results of requests sent with an {@code Idempotency-Key}, so a retried request gets the original result instead of
+ * being applied twice.
+ *
+ * <p>A key is remembered for {@code mock.idempotency.ttl} together with the request it came with; reusing it for a
+ * different request is rejected. A retry that arrives while the first attempt is still running waits for its result,
+ * and a failed attempt is forgotten so it can be retried. At most {@code mock.idempotency.max-keys} keys are kept, the
+ * oldest going first.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final long ttlNanos;
+    private final int maxKeys;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyStore(
+            @Value("${mock.idempotency.ttl:24h}") Duration ttl,
+            @Value("${mock.idempotency.max-keys:100000}") int maxKeys) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * The result of {@code action} for the first request with {@code key}, running it only then.
+     *
+     * @throws KeyReusedException if {@code key} was first used for a request not equal to {@code request}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Object request, Supplier<T> action) {
+        String scopedKey = scope + " " + key;
+        Entry mine = new Entry(request, new CompletableFuture<>(), System.nanoTime());
+        Entry existing;
+        synchronized (entries) {
+            existing = live(scopedKey, mine.createdAt());
+            if (existing == null) {
+                entries.put(scopedKey, mine);
+                evict(mine.createdAt());
+            }
+        }
+        if (existing != null) {
+            if (!Objects.equals(existing.request(), request)) {
+                throw new KeyReusedException(key);
+            }
+            log.debug("Replaying the result for idempotency key {}", key);
+            try {
+                return (T) existing.result().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            T result = action.get();
+            mine.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(scopedKey, mine);
+            }
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Entry live(String scopedKey, long now) {
+        Entry entry = entries.get(scopedKey);
+        if (entry != null && now - entry.createdAt() >= ttlNanos) {
+            entries.remove(scopedKey);
+            return null;
+        }
+        return entry;
+    }
+
+    /** Drops expired keys, which are the oldest, then the oldest ones beyond the bound. */
+    private void evict(long now) {
+        Iterator<Entry> oldest = entries.values().iterator();
+        while (oldest.hasNext()) {
+            Entry entry = oldest.next();
+            if (entries.size() <= maxKeys && now - entry.createdAt() < ttlNanos) {
+                break;
+            }
+            oldest.remove();
+        }
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result, long createdAt) {}
+
+    /**
+     * An idempotency key was reused for a different request.
+     */
+    public static class KeyReusedException extends RuntimeException {
+
+        public KeyReusedException(String key) {
+            super("Idempotency key %s was already used for a different request".formatted(key));
+        }
+    }
+}
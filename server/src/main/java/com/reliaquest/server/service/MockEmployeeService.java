@@ -1,18 +1,23 @@
 package com.reliaquest.server.service;
 
 import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.server.model.BatchItemResult;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeQuery;
 import com.reliaquest.server.model.MockEmployee;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -22,37 +27,140 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore store;
+
+    private final Validator validator;
+
+    @Value("${mock.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    public MockEmployeeStore.Snapshot getMockEmployees() {
+        return store.snapshot();
+    }
+
+    public List<MockEmployee> query(@NonNull EmployeeQuery query) {
+        return EmployeeQueryEvaluator.evaluate(store.snapshot().employees(), query);
+    }
+
+    public OptionalInt highestSalary() {
+        return store.highestSalary();
+    }
+
+    public List<String> topEarnerNames(int limit) {
+        return store.topEarners(limit).stream().map(MockEmployee::getName).toList();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = toEmployee(input);
+        store.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates all employees or none: if any input is invalid, nothing is added and the results mark each input
+     * {@code INVALID} or {@code SKIPPED}. Otherwise all are added under one store lock and marked {@code CREATED}.
+     */
+    public List<BatchItemResult> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        final var errors = new ArrayList<String>(inputs.size());
+        boolean valid = true;
+        for (CreateMockEmployeeInput input : inputs) {
+            final var error = validate(input);
+            valid &= error == null;
+            errors.add(error);
+        }
+        if (!valid) {
+            final var results = new ArrayList<BatchItemResult>(inputs.size());
+            for (int i = 0; i < inputs.size(); i++) {
+                final var error = errors.get(i);
+                results.add(
+                        error == null
+                                ? BatchItemResult.of(i, BatchItemResult.Status.SKIPPED, null)
+                                : new BatchItemResult(i, BatchItemResult.Status.INVALID, null, error));
+            }
+            return results;
+        }
+
+        final var mockEmployees = inputs.stream().map(this::toEmployee).toList();
+        store.addAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        final var results = new ArrayList<BatchItemResult>(mockEmployees.size());
+        for (int i = 0; i < mockEmployees.size(); i++) {
+            results.add(BatchItemResult.of(i, BatchItemResult.Status.CREATED, mockEmployees.get(i)));
+        }
+        return results;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = store.removeFirstByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /**
+     * Deletes the oldest employee by each name in turn under one store lock, marking each input {@code DELETED} or
+     * {@code NOT_FOUND}. Invalid inputs are rejected before anything is deleted.
+     */
+    public List<BatchItemResult> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        checkBatchSize(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            final var error = validate(inputs.get(i));
+            if (error != null) {
+                throw new IllegalArgumentException("Item %d: %s".formatted(i, error));
+            }
+        }
+
+        final var removed = store.removeFirstByName(
+                inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+        final var results = new ArrayList<BatchItemResult>(removed.size());
+        int deleted = 0;
+        for (int i = 0; i < removed.size(); i++) {
+            final var employee = removed.get(i).orElse(null);
+            if (employee != null) {
+                deleted++;
+                results.add(BatchItemResult.of(i, BatchItemResult.Status.DELETED, employee));
+            } else {
+                results.add(BatchItemResult.of(i, BatchItemResult.Status.NOT_FOUND, null));
+            }
+        }
+        log.debug("Removed {} of {} employees", deleted, inputs.size());
+        return results;
+    }
+
+    private MockEmployee toEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
+
+    private void checkBatchSize(int size) {
+        if (size == 0 || size > maxBatchSize) {
+            throw new IllegalArgumentException("Batch must hold 1 to %d items".formatted(maxBatchSize));
+        }
+    }
+
+    /** The constraint violations of {@code input} as one message, or null if it is valid. */
+    private String validate(Object input) {
+        if (input == null) {
+            return "item must not be null";
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
 }
@@ -0,0 +1,299 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thread-safe home of the mock employees, recovered from the {@link EmployeeJournal} or else seeded from the
+ * {@code mockEmployees} bean, which is then never generated when there is something to recover.
+ *
+ * <p>Reads do not take the write lock: lookups by id go to a {@link ConcurrentHashMap}, and listing returns an
+ * immutable snapshot that the first reader after a write copies from a {@link ConcurrentSkipListMap} in insertion
+ * order, and every reader then shares until the next write. Writes are serialized by a lock that also covers their
+ * {@link EmployeeChangeLog} entry, and bump a sequence number before and after, so a copy that saw the same even number
+ * on both sides overlapped no write and its version names exactly the changes it contains. Only a reader that keeps
+ * losing that race to writers falls back to copying under the lock.
+ *
+ * <p>Deletes address employees by name, ignoring case, so names are indexed too: each case-folded name maps to its
+ * employees in insertion order, and a delete takes the oldest. Concurrent deletes of one name are serialized by the
+ * lock and remove its employees oldest first, one each.
+ *
+ * <p>A {@link SalaryRanking} is maintained alongside, so the highest salary and the top earners are read without a
+ * scan.
+ *
+ * <p>Writes are appended to the journal under the lock, so it holds them in the order they were applied, but waited on
+ * after it is released, so writers queue up for one shared fsync rather than one each. A write whose record could not
+ * be made durable is undone, with a change of its own, before its caller sees the failure, so the store never holds
+ * what a restart would not recover and a retried request does not write twice.
+ */
+@Component
+public class MockEmployeeStore {
+
+    private final EmployeeChangeLog changeLog;
+    private final EmployeeJournal journal;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+    /** Employees by insertion sequence, for listing; only written under {@link #writeLock}. */
+    private final ConcurrentSkipListMap<Long, MockEmployee> ordered = new ConcurrentSkipListMap<>();
+    /** Insertion sequence of each employee; only used under {@link #writeLock}. */
+    private final Map<UUID, Long> sequences = new HashMap<>();
+    /** Case-folded name to employees, oldest first; only used under {@link #writeLock}. */
+    private final Map<String, Deque<MockEmployee>> byName = new HashMap<>();
+    private final SalaryRanking salaryRanking = new SalaryRanking();
+
+    private long nextSequence;
+
+    /** Odd while a write is being applied; incremented before and after each one, under {@link #writeLock}. */
+    private volatile long writeSequence;
+
+    private volatile Listing listing;
+
+    public MockEmployeeStore(
+            @Lazy List<MockEmployee> mockEmployees, EmployeeChangeLog changeLog, EmployeeJournal journal) {
+        this.changeLog = changeLog;
+        this.journal = journal;
+        Optional<List<MockEmployee>> recovered = journal.recover();
+        recovered.orElse(mockEmployees).stream()
+                .filter(employee -> Objects.nonNull(employee.getId()))
+                .forEach(this::index);
+        long segment = journal.startSegment();
+        if (recovered.isEmpty()) {
+            journal.writeSnapshot(segment, snapshot().employees());
+        }
+    }
+
+    public Optional<MockEmployee> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public OptionalInt highestSalary() {
+        return salaryRanking.highest();
+    }
+
+    /**
+     * Up to {@code limit} employees with the highest salaries, highest first; ties keep insertion order.
+     */
+    public List<MockEmployee> topEarners(int limit) {
+        return salaryRanking.top(limit);
+    }
+
+    /**
+     * Every employee in insertion order, as of the returned version of the change log.
+     */
+    public Snapshot snapshot() {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            long sequence = writeSequence;
+            Listing current = listing;
+            if (current != null && current.writeSequence() == sequence) {
+                return current.snapshot();
+            }
+            if ((sequence & 1) == 0) {
+                Snapshot copy = new Snapshot(changeLog.version(), List.copyOf(ordered.values()));
+                if (writeSequence == sequence) {
+                    listing = new Listing(sequence, copy);
+                    return copy;
+                }
+            }
+            Thread.onSpinWait();
+        }
+        writeLock.lock();
+        try {
+            Snapshot copy = new Snapshot(changeLog.version(), List.copyOf(ordered.values()));
+            listing = new Listing(writeSequence, copy);
+            return copy;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void add(MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    /**
+     * Adds the employees under one lock, so no listing shows only some of them.
+     */
+    public void addAll(List<MockEmployee> employees) {
+        List<CompletableFuture<Void>> durable = new ArrayList<>(employees.size());
+        beginWrite();
+        try {
+            for (MockEmployee employee : employees) {
+                index(employee);
+                changeLog.recordCreated(employee);
+                durable.add(journal.appendCreated(employee));
+            }
+        } finally {
+            endWrite();
+        }
+        awaitDurable(employees, durable, this::undoCreated);
+    }
+
+    /**
+     * Removes the oldest employee whose name equals {@code name}, ignoring case.
+     */
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        return removeFirstByName(List.of(name)).get(0);
+    }
+
+    /**
+     * Removes the oldest employee for each name in turn, ignoring case, under one lock; a name given twice removes two.
+     */
+    public List<Optional<MockEmployee>> removeFirstByName(List<String> names) {
+        List<Optional<MockEmployee>> removed = new ArrayList<>(names.size());
+        List<MockEmployee> deleted = new ArrayList<>();
+        List<CompletableFuture<Void>> durable = new ArrayList<>();
+        beginWrite();
+        try {
+            for (String name : names) {
+                MockEmployee employee = removeFirst(name);
+                if (employee != null) {
+                    changeLog.recordDeleted(employee);
+                    deleted.add(employee);
+                    durable.add(journal.appendDeleted(employee.getId()));
+                }
+                removed.add(Optional.ofNullable(employee));
+            }
+        } finally {
+            endWrite();
+        }
+        awaitDurable(deleted, durable, this::undoDeleted);
+        return removed;
+    }
+
+    /**
+     * Writes the current employees to the journal as a snapshot, after which the log records it covers are dropped.
+     * Returns the change log version the snapshot holds.
+     */
+    public long checkpoint() {
+        Snapshot current;
+        long segment;
+        writeLock.lock();
+        try {
+            current = snapshot();
+            segment = journal.startSegment();
+        } finally {
+            writeLock.unlock();
+        }
+        journal.writeSnapshot(segment, current.employees());
+        return current.version();
+    }
+
+    /**
+     * Waits for the journal record of each write, then undoes the writes whose record failed and rethrows the first
+     * failure. Writes whose record did reach the disk stay, as a restart would recover them.
+     */
+    private void awaitDurable(
+            List<MockEmployee> writes, List<CompletableFuture<Void>> durable, Consumer<MockEmployee> undo) {
+        List<MockEmployee> failed = new ArrayList<>();
+        RuntimeException failure = null;
+        for (int i = 0; i < durable.size(); i++) {
+            try {
+                durable.get(i).join();
+            } catch (RuntimeException e) {
+                failed.add(writes.get(i));
+                failure = failure != null ? failure : e;
+            }
+        }
+        if (failure == null) {
+            return;
+        }
+        beginWrite();
+        try {
+            failed.forEach(undo);
+        } finally {
+            endWrite();
+        }
+        throw failure;
+    }
+
+    /** Takes {@link #writeLock} and marks a write as under way, so concurrent listings retry. */
+    private void beginWrite() {
+        writeLock.lock();
+        writeSequence++;
+    }
+
+    private void endWrite() {
+        writeSequence++;
+        writeLock.unlock();
+    }
+
+    /** Takes back a create that was not journaled, unless a later delete already did; only under {@link #writeLock}. */
+    private void undoCreated(MockEmployee employee) {
+        if (byId.get(employee.getId()) == employee) {
+            unindex(employee);
+            changeLog.recordDeleted(employee);
+        }
+    }
+
+    /** Puts back an employee whose delete was not journaled; only called under {@link #writeLock}. */
+    private void undoDeleted(MockEmployee employee) {
+        if (!byId.containsKey(employee.getId())) {
+            index(employee);
+            changeLog.recordCreated(employee);
+        }
+    }
+
+    /** Unindexes the oldest employee named {@code name}; only called under {@link #writeLock}. */
+    private MockEmployee removeFirst(String name) {
+        Deque<MockEmployee> named = byName.get(foldCase(name));
+        if (named == null) {
+            return null;
+        }
+        MockEmployee employee = named.peekFirst();
+        unindex(employee);
+        return employee;
+    }
+
+    private void unindex(MockEmployee employee) {
+        ordered.remove(sequences.remove(employee.getId()));
+        byId.remove(employee.getId());
+        salaryRanking.remove(employee);
+        if (employee.getName() != null) {
+            String key = foldCase(employee.getName());
+            Deque<MockEmployee> named = byName.get(key);
+            if (named != null && named.removeFirstOccurrence(employee) && named.isEmpty()) {
+                byName.remove(key);
+            }
+        }
+    }
+
+    private void index(MockEmployee employee) {
+        byId.put(employee.getId(), employee);
+        ordered.put(sequences.computeIfAbsent(employee.getId(), id -> nextSequence++), employee);
+        salaryRanking.add(employee);
+        if (employee.getName() != null) {
+            byName.computeIfAbsent(foldCase(employee.getName()), key -> new ArrayDeque<>()).addLast(employee);
+        }
+    }
+
+    /**
+     * Folds each code point the way {@link String#equalsIgnoreCase} compares them, so equal keys mean equal names.
+     */
+    private static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints().map(cp -> Character.toLowerCase(Character.toUpperCase(cp))).forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    public record Snapshot(long version, List<MockEmployee> employees) {}
+
+    /** A snapshot and the write sequence it was copied at. */
+    private record Listing(long writeSequence, Snapshot snapshot) {}
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Employees with a salary, highest first and ties in insertion order, updated on every create and delete so the
+ * salary aggregates never scan the store. Readers walk the skip list without locking and see a weakly consistent view;
+ * writers are serialized by {@link MockEmployeeStore}.
+ */
+class SalaryRanking {
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingInt(Entry::salary).reversed().thenComparingLong(Entry::sequence);
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    /** Only used by writers. */
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    private long sequence;
+
+    void add(MockEmployee employee) {
+        if (employee.getSalary() == null) {
+            return;
+        }
+        Entry entry = new Entry(employee.getSalary(), sequence++, employee);
+        entries.put(employee.getId(), entry);
+        ranking.add(entry);
+    }
+
+    void remove(MockEmployee employee) {
+        Entry entry = entries.remove(employee.getId());
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    OptionalInt highest() {
+        Iterator<Entry> highestFirst = ranking.iterator();
+        return highestFirst.hasNext() ? OptionalInt.of(highestFirst.next().salary()) : OptionalInt.empty();
+    }
+
+    List<MockEmployee> top(int limit) {
+        List<MockEmployee> top = new ArrayList<>(Math.min(limit, 64));
+        Iterator<Entry> highestFirst = ranking.iterator();
+        while (top.size() < limit && highestFirst.hasNext()) {
+            top.add(highestFirst.next().employee());
+        }
+        return top;
+    }
+
+    private record Entry(int salary, long sequence, MockEmployee employee) {}
+}
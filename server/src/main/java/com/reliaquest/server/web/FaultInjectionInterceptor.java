@@ -0,0 +1,51 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Applies {@link FaultInjector} decisions: waits on the request thread, then lets the request through, answers it with
+ * an error status, or drops it. A servlet cannot reset the TCP connection itself, so a drop sends headers promising a
+ * body and closes the connection without one, which clients see as a reset or premature end of stream.
+ */
+@RequiredArgsConstructor
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    private static final int PROMISED_BODY_BYTES = 1024;
+
+    private final FaultInjector faultInjector;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException, InterruptedException {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        FaultInjector.Fault fault = faultInjector.next(
+                request.getMethod(), pattern != null ? pattern.toString() : request.getRequestURI());
+        if (fault == null) {
+            return true;
+        }
+        if (fault.latencyMillis() > 0) {
+            Thread.sleep(fault.latencyMillis());
+        }
+        switch (fault.kind()) {
+            case ERROR -> {
+                response.sendError(fault.errorStatus(), "Injected fault");
+                return false;
+            }
+            case RESET -> {
+                response.setHeader(HttpHeaders.CONNECTION, "close");
+                response.setContentLength(PROMISED_BODY_BYTES);
+                response.flushBuffer();
+                return false;
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultSettings;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides the latency and failure of each request from the current {@link FaultSettings}, which can be replaced at
+ * runtime through {@code /admin/faults}.
+ *
+ * <p>The n-th request to an endpoint draws from a random generator seeded with the seed, the endpoint and n, so a seed
+ * replays the same faults in the same order per endpoint however requests to different endpoints interleave.
+ */
+@Slf4j
+@Component
+public class FaultInjector {
+
+    private static final TypeReference<Map<String, FaultProfile>> ENDPOINTS = new TypeReference<>() {};
+
+    private volatile Active active;
+
+    public FaultInjector(
+            ObjectMapper objectMapper,
+            @Value("${mock.faults.seed:#{null}}") Long seed,
+            @Value("${mock.faults.endpoints:{}}") String endpoints)
+            throws JsonProcessingException {
+        configure(new FaultSettings(seed, objectMapper.readValue(endpoints, ENDPOINTS)));
+    }
+
+    public FaultSettings settings() {
+        return active.settings();
+    }
+
+    /**
+     * Replaces every profile and restarts each endpoint's sequence; without a seed a random one is chosen.
+     */
+    public FaultSettings configure(FaultSettings settings) {
+        Map<String, FaultProfile> endpoints =
+                settings.endpoints() != null ? Map.copyOf(settings.endpoints()) : Map.of();
+        endpoints.forEach(FaultInjector::validate);
+        long seed = settings.seed() != null ? settings.seed() : ThreadLocalRandom.current().nextLong();
+        active = new Active(new FaultSettings(seed, endpoints), new ConcurrentHashMap<>());
+        log.info("Injecting faults into {} endpoints with seed {}", endpoints.size(), seed);
+        return active.settings();
+    }
+
+    /**
+     * The fault for the next request to {@code pattern}, or null when it has no profile.
+     */
+    Fault next(String method, String pattern) {
+        Active current = active;
+        Map<String, FaultProfile> endpoints = current.settings().endpoints();
+        String key = method + " " + pattern;
+        FaultProfile profile = endpoints.get(key);
+        if (profile == null) {
+            key = pattern;
+            profile = endpoints.get(key);
+        }
+        if (profile == null) {
+            key = "*";
+            profile = endpoints.get(key);
+        }
+        if (profile == null) {
+            return null;
+        }
+        long n = current.requests().computeIfAbsent(key, ignored -> new AtomicLong()).getAndIncrement();
+        SplittableRandom random =
+                new SplittableRandom(current.settings().seed() ^ (key.hashCode() * 0x9E3779B97F4A7C15L) ^ mix(n));
+        long latencyMillis = latencyMillis(profile, random);
+        double outcome = random.nextDouble();
+        Fault.Kind kind = outcome < profile.resetRate()
+                ? Fault.Kind.RESET
+                : outcome < profile.resetRate() + profile.errorRate() ? Fault.Kind.ERROR : Fault.Kind.NONE;
+        return new Fault(latencyMillis, kind, profile.errorStatus() > 0 ? profile.errorStatus() : 500);
+    }
+
+    private static long latencyMillis(FaultProfile profile, SplittableRandom random) {
+        FaultProfile.Latency latency = profile.latency() != null ? profile.latency() : FaultProfile.Latency.NONE;
+        double millis =
+                switch (latency) {
+                    case NONE -> 0;
+                    case FIXED -> profile.latencyMs();
+                    case LOGNORMAL -> lognormal(profile.latencyMs(), profile.sigma(), random);
+                    case BIMODAL -> lognormal(
+                            random.nextDouble() < profile.slowRate() ? profile.slowLatencyMs() : profile.latencyMs(),
+                            profile.sigma(),
+                            random);
+                };
+        if (profile.maxLatencyMs() > 0) {
+            millis = Math.min(millis, profile.maxLatencyMs());
+        }
+        return Math.round(millis);
+    }
+
+    private static double lognormal(double median, double sigma, SplittableRandom random) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    private static void validate(String endpoint, FaultProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Fault profile for " + endpoint + " is empty");
+        }
+        if (profile.latencyMs() < 0
+                || profile.slowLatencyMs() < 0
+                || profile.maxLatencyMs() < 0
+                || profile.sigma() < 0
+                || profile.errorStatus() < 0) {
+            throw new IllegalArgumentException("Fault profile for " + endpoint + " has a negative value");
+        }
+        if (!isRate(profile.slowRate())
+                || !isRate(profile.errorRate())
+                || !isRate(profile.resetRate())
+                || profile.errorRate() + profile.resetRate() > 1) {
+            throw new IllegalArgumentException("Fault rates for " + endpoint + " must be between 0 and 1 in total");
+        }
+    }
+
+    private static boolean isRate(double rate) {
+        return rate >= 0 && rate <= 1;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    record Fault(long latencyMillis, Kind kind, int errorStatus) {
+        enum Kind {
+            NONE,
+            ERROR,
+            RESET
+        }
+    }
+
+    private record Active(FaultSettings settings, Map<String, AtomicLong> requests) {}
+}
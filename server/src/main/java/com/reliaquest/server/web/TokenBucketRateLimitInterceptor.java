@@ -0,0 +1,97 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Per-client token bucket, kept as a single theoretical arrival time per client (GCRA) and advanced with
+ * compare-and-set, so concurrent requests never lose an update and the clock is read once per request.
+ *
+ * <p>A client gets {@code burst} requests at once and then one every {@code 1 / ratePerSecond} seconds. Clients are
+ * told where they stand with {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset}
+ * (seconds until the bucket is full again), and a rejected request gets 429 with {@code Retry-After}. Clients are told
+ * apart by {@code clientHeader}, falling back to the remote address.
+ */
+public class TokenBucketRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final int burst;
+    private final String clientHeader;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final Map<String, AtomicLong> arrivalTimes = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimitInterceptor(
+            double ratePerSecond, int burst, String clientHeader, int maxClients, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit needs a positive rate and a burst of at least 1");
+        }
+        this.emissionIntervalNanos = Math.max(1, Math.round(NANOS_PER_SECOND / ratePerSecond));
+        this.capacityNanos = emissionIntervalNanos * burst;
+        this.burst = burst;
+        this.clientHeader = clientHeader;
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = nanoClock.getAsLong();
+        AtomicLong arrivalTime = arrivalTimeOf(clientOf(request), now);
+        response.setHeader("X-RateLimit-Limit", Integer.toString(burst));
+        while (true) {
+            long current = arrivalTime.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long backlog = next - now;
+            if (backlog > capacityNanos) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader("X-RateLimit-Remaining", "0");
+                response.setHeader("X-RateLimit-Reset", Long.toString(ceilSeconds(current - now)));
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(ceilSeconds(backlog - capacityNanos)));
+                return false;
+            }
+            if (arrivalTime.compareAndSet(current, next)) {
+                long remaining = (capacityNanos - backlog) / emissionIntervalNanos;
+                response.setHeader("X-RateLimit-Remaining", Long.toString(remaining));
+                response.setHeader("X-RateLimit-Reset", Long.toString(ceilSeconds(backlog)));
+                return true;
+            }
+        }
+    }
+
+    int trackedClients() {
+        return arrivalTimes.size();
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String client = clientHeader != null ? request.getHeader(clientHeader) : null;
+        return client != null && !client.isBlank() ? client : request.getRemoteAddr();
+    }
+
+    private AtomicLong arrivalTimeOf(String client, long now) {
+        AtomicLong arrivalTime = arrivalTimes.get(client);
+        if (arrivalTime != null) {
+            return arrivalTime;
+        }
+        if (arrivalTimes.size() >= maxClients) {
+            // A client whose bucket has refilled is indistinguishable from a new one, so it can be forgotten
+            arrivalTimes.values().removeIf(time -> time.get() <= now);
+        }
+        return arrivalTimes.computeIfAbsent(client, ignored -> new AtomicLong(now));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+}
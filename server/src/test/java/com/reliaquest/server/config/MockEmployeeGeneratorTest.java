@@ -0,0 +1,46 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    // More than one chunk, so the chunks are generated in parallel
+    private static final int COUNT = 25_000;
+
+    @Test
+    void generate_SameSeed_SameEmployeesInOrder() {
+        List<MockEmployee> first = new MockEmployeeGenerator(Locale.US, 42).generate(COUNT);
+        List<MockEmployee> second = new MockEmployeeGenerator(Locale.US, 42).generate(COUNT);
+
+        assertEquals(COUNT, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void generate_DifferentSeed_DifferentEmployees() {
+        List<MockEmployee> first = new MockEmployeeGenerator(Locale.US, 42).generate(100);
+        List<MockEmployee> second = new MockEmployeeGenerator(Locale.US, 43).generate(100);
+
+        assertNotEquals(first.get(0).getId(), second.get(0).getId());
+    }
+
+    @Test
+    void generate_ValidAndUniqueIds() {
+        List<MockEmployee> employees = new MockEmployeeGenerator(Locale.US, 7).generate(COUNT);
+
+        // Chunks must not repeat each other's streams
+        assertEquals(COUNT, employees.stream().map(MockEmployee::getId).distinct().count());
+        for (MockEmployee employee : employees) {
+            assertEquals(4, employee.getId().version());
+            assertEquals(2, employee.getId().variant());
+            assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+            assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+            assertTrue(employee.getEmail().endsWith("@company.com"));
+        }
+    }
+}
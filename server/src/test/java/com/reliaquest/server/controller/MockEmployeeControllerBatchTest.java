@@ -0,0 +1,144 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.server.model.BatchItemResult;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.EmployeeChangeLog;
+import com.reliaquest.server.service.EmployeeEventBroadcaster;
+import com.reliaquest.server.service.IdempotencyStore;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.FaultInjector;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = MockEmployeeController.class, properties = "mock.rate-limit.mode=off")
+@Import(IdempotencyStore.class)
+class MockEmployeeControllerBatchTest {
+
+    private static final String ITEMS = """
+            [{"name": "Tiger Nixon", "salary": 320800, "age": 61, "title": "Architect"},
+             {"name": "Bill Bob", "salary": 89750, "age": 24, "title": "Engineer"}]
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MockEmployeeService mockEmployeeService;
+
+    @MockBean
+    private EmployeeChangeLog changeLog;
+
+    @MockBean
+    private EmployeeEventBroadcaster eventBroadcaster;
+
+    @MockBean
+    private FaultInjector faultInjector;
+
+    @Test
+    void createEmployees_AllCreated_Ok() throws Exception {
+        when(mockEmployeeService.createAll(anyList()))
+                .thenReturn(List.of(
+                        BatchItemResult.of(0, BatchItemResult.Status.CREATED, employee("Tiger Nixon")),
+                        BatchItemResult.of(1, BatchItemResult.Status.CREATED, employee("Bill Bob"))));
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ITEMS))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.data[1].employee.employee_name", is("Bill Bob")))
+                .andExpect(jsonPath("$.error").doesNotExist());
+    }
+
+    @Test
+    void createEmployees_AnyInvalid_BadRequestWithItemResults() throws Exception {
+        when(mockEmployeeService.createAll(anyList()))
+                .thenReturn(List.of(
+                        BatchItemResult.of(0, BatchItemResult.Status.SKIPPED, null),
+                        new BatchItemResult(1, BatchItemResult.Status.INVALID, null, "age must not be null")));
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ITEMS))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data[0].status", is("SKIPPED")))
+                .andExpect(jsonPath("$.data[0].employee").doesNotExist())
+                .andExpect(jsonPath("$.data[1].status", is("INVALID")))
+                .andExpect(jsonPath("$.data[1].error", is("age must not be null")))
+                .andExpect(jsonPath("$.error", is("Batch rejected, nothing was created")));
+    }
+
+    @Test
+    void createEmployees_RetriedWithIdempotencyKey_CreatesOnce() throws Exception {
+        when(mockEmployeeService.createAll(anyList()))
+                .thenReturn(List.of(
+                        BatchItemResult.of(0, BatchItemResult.Status.CREATED, employee("Tiger Nixon")),
+                        BatchItemResult.of(1, BatchItemResult.Status.CREATED, employee("Bill Bob"))));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/v1/employee/batch")
+                            .header(MockEmployeeController.IDEMPOTENCY_KEY_HEADER, "batch-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(ITEMS))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data", hasSize(2)));
+        }
+
+        verify(mockEmployeeService, times(1)).createAll(anyList());
+    }
+
+    @Test
+    void createEmployees_TooLarge_BadRequest() throws Exception {
+        when(mockEmployeeService.createAll(anyList()))
+                .thenThrow(new IllegalArgumentException("Batch must hold 1 to 1 items"));
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ITEMS))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Batch must hold 1 to 1 items")));
+    }
+
+    @Test
+    void deleteEmployees_ResultPerItem() throws Exception {
+        when(mockEmployeeService.deleteAll(anyList()))
+                .thenReturn(List.of(
+                        BatchItemResult.of(0, BatchItemResult.Status.DELETED, employee("Tiger Nixon")),
+                        BatchItemResult.of(1, BatchItemResult.Status.NOT_FOUND, null)));
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"Tiger Nixon\"}, {\"name\": \"Nobody\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status", is("DELETED")))
+                .andExpect(jsonPath("$.data[0].employee.employee_name", is("Tiger Nixon")))
+                .andExpect(jsonPath("$.data[1].status", is("NOT_FOUND")));
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100_000)
+                .age(30)
+                .title("Engineer")
+                .email("someone@company.com")
+                .build();
+    }
+}
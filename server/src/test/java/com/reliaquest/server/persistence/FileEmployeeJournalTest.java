@@ -0,0 +1,195 @@
+package com.reliaquest.server.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileEmployeeJournalTest {
+
+    @TempDir
+    private Path directory;
+
+    private FileEmployeeJournal journal;
+
+    private final MockEmployee tiger = employee("Tiger Nixon", "Vice Chair");
+    private final MockEmployee bill = employee("Bill Bob", null);
+    private final MockEmployee jane = employee("Jane Roe", "Engineer");
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void recover_EmptyDirectory_ReturnsEmpty() throws IOException {
+        assertEquals(Optional.empty(), open().recover());
+    }
+
+    @Test
+    void recover_ReplaysCreatesAndDeletesInOrder() throws IOException {
+        open().recover();
+        journal.startSegment();
+        journal.appendCreated(tiger);
+        journal.appendCreated(bill);
+        journal.appendDeleted(tiger.getId());
+        journal.appendCreated(jane).join();
+        journal.close();
+
+        assertEquals(Optional.of(List.of(bill, jane)), open().recover());
+    }
+
+    @Test
+    void recover_TornTail_StopsAtLastCompleteRecord() throws IOException {
+        writeThreeCreates();
+        Path segment = onlyFile("wal-*.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        assertEquals(Optional.of(List.of(tiger, bill)), open().recover());
+    }
+
+    @Test
+    void recover_ChecksumMismatch_StopsBeforeCorruptRecord() throws IOException {
+        writeThreeCreates();
+        Path segment = onlyFile("wal-*.log");
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x20;
+        Files.write(segment, bytes);
+
+        assertEquals(Optional.of(List.of(tiger, bill)), open().recover());
+    }
+
+    @Test
+    void recover_AfterTornTail_NewRunAppendsToNewSegment() throws IOException {
+        writeThreeCreates();
+        Path segment = onlyFile("wal-*.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        open().recover();
+        journal.startSegment();
+        journal.appendCreated(jane).join();
+        journal.close();
+
+        assertEquals(Optional.of(List.of(tiger, bill, jane)), open().recover());
+    }
+
+    @Test
+    void writeSnapshot_ReplaysSnapshotPlusLaterSegmentAndDeletesOlderFiles() throws IOException {
+        open().recover();
+        journal.startSegment();
+        journal.appendCreated(tiger);
+        journal.appendCreated(bill).join();
+        long segment = journal.startSegment();
+        journal.writeSnapshot(segment, List.of(tiger, bill));
+        journal.appendCreated(jane).join();
+        journal.close();
+
+        assertEquals(List.of(directory.resolve("snapshot-%016d.bin".formatted(segment))), files("snapshot-*"));
+        assertEquals(List.of(directory.resolve("wal-%016d.log".formatted(segment))), files("wal-*"));
+        assertEquals(Optional.of(List.of(tiger, bill, jane)), open().recover());
+    }
+
+    @Test
+    void writeSnapshot_RecordsAppendedAfterStartSegmentSurviveDeletionOfOlderSegments() throws IOException {
+        open().recover();
+        journal.startSegment();
+        journal.appendCreated(tiger);
+        journal.appendCreated(bill);
+        // Queued right behind the rotation, so it must land in the new segment and not in the one being deleted
+        long segment = journal.startSegment();
+        journal.appendDeleted(tiger.getId());
+        journal.writeSnapshot(segment, List.of(tiger, bill));
+        journal.appendCreated(jane).join();
+        journal.close();
+
+        assertEquals(Optional.of(List.of(bill, jane)), open().recover());
+    }
+
+    @Test
+    void recover_UnreadableNewestSnapshot_FallsBackToOlderOne() throws IOException {
+        open().recover();
+        journal.startSegment();
+        journal.appendCreated(tiger).join();
+        long segment = journal.startSegment();
+        journal.writeSnapshot(segment, List.of(tiger));
+        journal.appendCreated(bill).join();
+        journal.close();
+        // A newer snapshot that fails its checksum, e.g. from a bad sector
+        byte[] snapshot = Files.readAllBytes(onlyFile("snapshot-*.bin"));
+        snapshot[snapshot.length / 2] ^= 0x01;
+        Files.write(directory.resolve("snapshot-%016d.bin".formatted(segment + 1)), snapshot);
+
+        assertEquals(Optional.of(List.of(tiger, bill)), open().recover());
+        assertEquals(segment + 2, journal.startSegment());
+    }
+
+    @Test
+    void append_AfterClose_Fails() throws IOException {
+        open().recover();
+        journal.startSegment();
+        journal.close();
+
+        assertTrue(journal.appendCreated(tiger).isCompletedExceptionally());
+    }
+
+    private FileEmployeeJournal open() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        journal = new FileEmployeeJournal(directory, true, 16);
+        return journal;
+    }
+
+    private void writeThreeCreates() throws IOException {
+        open().recover();
+        journal.startSegment();
+        journal.appendCreated(tiger);
+        journal.appendCreated(bill);
+        journal.appendCreated(jane).join();
+        journal.close();
+    }
+
+    private Path onlyFile(String glob) throws IOException {
+        List<Path> files = files(glob);
+        assertEquals(1, files.size(), () -> "Expected one " + glob + " in " + files);
+        return files.get(0);
+    }
+
+    private List<Path> files(String glob) throws IOException {
+        PathMatcher matcher = directory.getFileSystem().getPathMatcher("glob:" + glob);
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries.filter(file -> matcher.matches(file.getFileName()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static MockEmployee employee(String name, String title) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(name.length() * 10_000)
+                .age(30)
+                .title(title)
+                .email(name.toLowerCase().replace(' ', '.') + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.EmployeeQuery;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeQueryEvaluatorTest {
+
+    private final MockEmployee tiger = employee("Tiger Nixon", 320800, 61);
+    private final MockEmployee garrett = employee("Garrett Winters", 170750, 63);
+    private final MockEmployee ashton = employee("Ashton Cox", 86000, 66);
+    private final MockEmployee cedric = employee("Cedric Kelly", 433060, 22);
+    private final MockEmployee unpaid = employee("Airi Satou", null, null);
+    private final List<MockEmployee> employees = List.of(tiger, garrett, ashton, cedric, unpaid);
+
+    @Test
+    void evaluate_EmptyQuery_ReturnsEveryoneInListOrder() {
+        assertEquals(employees, evaluate(query(null, null, null, null)));
+    }
+
+    @Test
+    void evaluate_NameContains_IgnoresCase() {
+        assertEquals(List.of(tiger, garrett, cedric), evaluate(query("E", null, null, null)));
+        assertEquals(List.of(tiger), evaluate(query("NIX", null, null, null)));
+    }
+
+    @Test
+    void evaluate_Ranges_AreInclusiveAndSkipMissingValues() {
+        EmployeeQuery query = new EmployeeQuery(null, 170750, 320800, null, 63, null, null, null);
+
+        assertEquals(List.of(tiger, garrett), EmployeeQueryEvaluator.evaluate(employees, query));
+    }
+
+    @Test
+    void evaluate_SortDescendingWithLimit_ReturnsTopN() {
+        assertEquals(List.of(cedric, tiger), evaluate(query(null, "-salary", 2, null)));
+    }
+
+    @Test
+    void evaluate_SortAscending_MissingValuesLast() {
+        List<MockEmployee> result = evaluate(query(null, "salary", null, null));
+
+        assertEquals(List.of(ashton, garrett, tiger, cedric, unpaid), result);
+    }
+
+    @Test
+    void evaluate_SortWithOffset_PagesThroughOrder() {
+        assertEquals(List.of(ashton, cedric), evaluate(query(null, "name", 2, 1)));
+        assertEquals(List.of(), evaluate(query(null, "name", 2, 10)));
+        assertEquals(List.of(), evaluate(query(null, "-salary", 0, null)));
+    }
+
+    @Test
+    void evaluate_HugeLimit_ReturnsAllSortedWithoutSizingForIt() {
+        List<MockEmployee> result = evaluate(query(null, "salary", 2_000_000_000, null));
+
+        assertEquals(List.of(ashton, garrett, tiger, cedric, unpaid), result);
+    }
+
+    @Test
+    void evaluate_UnsortedLimit_StopsAtFirstMatches() {
+        assertEquals(List.of(tiger, garrett), evaluate(query("e", null, 2, null)));
+    }
+
+    @Test
+    void evaluate_TiesKeepListOrder() {
+        MockEmployee first = employee("First", 1000, 30);
+        MockEmployee second = employee("Second", 1000, 30);
+        MockEmployee third = employee("Third", 1000, 30);
+        EmployeeQuery query = new EmployeeQuery(null, null, null, null, null, "-salary", 2, null);
+
+        assertEquals(List.of(first, second), EmployeeQueryEvaluator.evaluate(List.of(first, second, third), query));
+    }
+
+    @Test
+    void evaluate_BoundedHeap_MatchesFullSort() {
+        Random random = new Random(42);
+        List<MockEmployee> many = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            many.add(employee("Employee " + i, random.nextInt(1000), 20 + random.nextInt(40)));
+        }
+        List<MockEmployee> expected = many.stream()
+                .sorted(Comparator.comparing(MockEmployee::getAge).reversed())
+                .skip(15)
+                .limit(25)
+                .toList();
+
+        EmployeeQuery query = new EmployeeQuery(null, null, null, null, null, "-age", 25, 15);
+
+        assertEquals(expected, EmployeeQueryEvaluator.evaluate(many, query));
+    }
+
+    @Test
+    void evaluate_InvalidSortOrPaging_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> evaluate(query(null, "height", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> evaluate(query(null, null, -1, null)));
+        assertThrows(IllegalArgumentException.class, () -> evaluate(query(null, null, null, -1)));
+    }
+
+    private List<MockEmployee> evaluate(EmployeeQuery query) {
+        return EmployeeQueryEvaluator.evaluate(employees, query);
+    }
+
+    private static EmployeeQuery query(String nameContains, String sort, Integer limit, Integer offset) {
+        return new EmployeeQuery(nameContains, null, null, null, null, sort, limit, offset);
+    }
+
+    private static MockEmployee employee(String name, Integer salary, Integer age) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .build();
+    }
+}
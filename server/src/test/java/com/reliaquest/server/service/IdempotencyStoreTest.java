@@ -0,0 +1,107 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyStoreTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_SameKeyAndRequest_ReplaysTheFirstResult() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+
+        assertEquals("result 1", store.execute("create", "key", "request", this::run));
+        assertEquals("result 1", store.execute("create", "key", "request", this::run));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_KeysAreScoped() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+
+        store.execute("create", "key", "request", this::run);
+        assertEquals("result 2", store.execute("delete", "key", "request", this::run));
+    }
+
+    @Test
+    void execute_SameKeyDifferentRequest_Rejected() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+        store.execute("create", "key", "request", this::run);
+
+        assertThrows(
+                IdempotencyStore.KeyReusedException.class,
+                () -> store.execute("create", "key", "other request", this::run));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_FailedAttempt_IsForgottenSoItCanBeRetried() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+
+        assertThrows(IllegalStateException.class, () -> store.execute("create", "key", "request", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("result 1", store.execute("create", "key", "request", this::run));
+    }
+
+    @Test
+    void execute_RetryWhileTheFirstAttemptRuns_WaitsForItsResult() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> release = new CompletableFuture<>();
+        Future<String> first = executor.submit(() -> store.execute("create", "key", "request", () -> {
+            started.countDown();
+            return release.join();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<String> retry = executor.submit(() -> store.execute("create", "key", "request", this::run));
+        assertThrows(TimeoutException.class, () -> retry.get(100, TimeUnit.MILLISECONDS));
+        release.complete("first");
+
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("first", retry.get(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void execute_ExpiredKey_RunsAgain() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ZERO, 100);
+
+        store.execute("create", "key", "request", this::run);
+        assertEquals("result 2", store.execute("create", "key", "other request", this::run));
+    }
+
+    @Test
+    void execute_BeyondMaxKeys_OldestForgotten() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 2);
+        store.execute("create", "a", "request", this::run);
+        store.execute("create", "b", "request", this::run);
+        store.execute("create", "c", "request", this::run);
+
+        assertEquals("result 2", store.execute("create", "b", "request", this::run));
+        assertEquals("result 4", store.execute("create", "a", "request", this::run));
+    }
+
+    private String run() {
+        return "result " + runs.incrementAndGet();
+    }
+}
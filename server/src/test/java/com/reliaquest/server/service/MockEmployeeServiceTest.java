@@ -0,0 +1,127 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.BatchItemResult;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MockEmployeeServiceTest {
+
+    private final MockEmployeeStore store =
+            new MockEmployeeStore(new ArrayList<>(), new EmployeeChangeLog(1_000), EmployeeJournal.NONE);
+    private final MockEmployeeService service = new MockEmployeeService(
+            new Faker(Locale.US), store, Validation.buildDefaultValidatorFactory().getValidator());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxBatchSize", 3);
+    }
+
+    @Test
+    void createAll_AllValid_CreatesEachInOrder() {
+        List<BatchItemResult> results = service.createAll(List.of(input("Tiger Nixon"), input("Bill Bob")));
+
+        assertEquals(2, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).index());
+            assertEquals(BatchItemResult.Status.CREATED, results.get(i).status());
+        }
+        assertEquals("Tiger Nixon", results.get(0).employee().getName());
+        assertEquals("Bill Bob", results.get(1).employee().getName());
+        assertEquals(
+                List.of("Tiger Nixon", "Bill Bob"),
+                store.snapshot().employees().stream().map(MockEmployee::getName).toList());
+    }
+
+    @Test
+    void createAll_AnyInvalid_CreatesNothing() {
+        CreateMockEmployeeInput tooYoung = input("Too Young");
+        tooYoung.setAge(12);
+
+        List<BatchItemResult> results = service.createAll(List.of(input("Tiger Nixon"), tooYoung));
+
+        assertEquals(BatchItemResult.Status.SKIPPED, results.get(0).status());
+        assertNull(results.get(0).error());
+        assertEquals(BatchItemResult.Status.INVALID, results.get(1).status());
+        assertTrue(results.get(1).error().startsWith("age "), results.get(1).error());
+        assertNull(results.get(1).employee());
+        assertTrue(store.snapshot().employees().isEmpty());
+    }
+
+    @Test
+    void createAll_NullItem_Invalid() {
+        List<CreateMockEmployeeInput> inputs = new ArrayList<>();
+        inputs.add(null);
+
+        List<BatchItemResult> results = service.createAll(inputs);
+
+        assertEquals(BatchItemResult.Status.INVALID, results.get(0).status());
+        assertEquals("item must not be null", results.get(0).error());
+    }
+
+    @Test
+    void createAll_EmptyOrTooLarge_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(List.of()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.createAll(List.of(input("A"), input("B"), input("C"), input("D"))));
+        assertTrue(store.snapshot().employees().isEmpty());
+    }
+
+    @Test
+    void deleteAll_DeletesOldestByEachNameInTurn() {
+        service.createAll(List.of(input("Tiger Nixon"), input("Bill Bob"), input("Tiger Nixon")));
+        UUID oldestTiger = store.snapshot().employees().get(0).getId();
+
+        List<BatchItemResult> results = service.deleteAll(
+                List.of(deleteInput("Tiger Nixon"), deleteInput("Nobody"), deleteInput("tiger nixon")));
+
+        assertEquals(BatchItemResult.Status.DELETED, results.get(0).status());
+        assertEquals(oldestTiger, results.get(0).employee().getId());
+        assertEquals(BatchItemResult.Status.NOT_FOUND, results.get(1).status());
+        assertNull(results.get(1).employee());
+        assertEquals(BatchItemResult.Status.DELETED, results.get(2).status());
+        assertEquals(
+                List.of("Bill Bob"),
+                store.snapshot().employees().stream().map(MockEmployee::getName).toList());
+    }
+
+    @Test
+    void deleteAll_AnyInvalid_DeletesNothing() {
+        service.createAll(List.of(input("Tiger Nixon")));
+
+        IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.deleteAll(List.of(deleteInput("Tiger Nixon"), deleteInput(" "))));
+
+        assertTrue(e.getMessage().startsWith("Item 1: "), e.getMessage());
+        assertEquals(1, store.snapshot().employees().size());
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        DeleteMockEmployeeInput input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
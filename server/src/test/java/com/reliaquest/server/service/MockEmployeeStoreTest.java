@@ -0,0 +1,230 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.persistence.EmployeeJournal;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 500;
+
+    private final EmployeeChangeLog changeLog = new EmployeeChangeLog(100_000);
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void removeFirstByName_OldestFirstIgnoringCase() {
+        MockEmployee first = employee("Tiger Nixon", 100);
+        MockEmployee second = employee("TIGER NIXON", 200);
+        MockEmployeeStore store = store(List.of(first, employee("Bill Bob", 300), second));
+
+        assertEquals(Optional.of(first), store.removeFirstByName("tiger nixon"));
+        assertEquals(Optional.of(second), store.removeFirstByName("Tiger Nixon"));
+        assertEquals(Optional.empty(), store.removeFirstByName("Tiger Nixon"));
+        assertEquals(1, store.snapshot().employees().size());
+    }
+
+    @Test
+    void snapshot_SharedUntilTheNextWrite() {
+        MockEmployee tiger = employee("Tiger Nixon", 100);
+        MockEmployeeStore store = store(List.of(tiger));
+
+        MockEmployeeStore.Snapshot first = store.snapshot();
+        assertSame(first, store.snapshot());
+        MockEmployee bill = employee("Bill Bob", 200);
+        store.add(bill);
+
+        MockEmployeeStore.Snapshot second = store.snapshot();
+        assertNotSame(first, second);
+        assertEquals(List.of(tiger, bill), second.employees());
+        assertEquals(first.version() + 1, second.version());
+    }
+
+    @Test
+    void concurrentAdds_AllIndexedAndVersionedOnce() throws Exception {
+        MockEmployeeStore store = store(List.of());
+
+        List<List<MockEmployee>> added = runConcurrently(thread -> {
+            List<MockEmployee> mine = new ArrayList<>();
+            for (int i = 0; i < PER_THREAD; i++) {
+                MockEmployee employee = employee("Employee " + thread + "-" + i, i);
+                store.add(employee);
+                mine.add(employee);
+            }
+            return mine;
+        });
+
+        MockEmployeeStore.Snapshot snapshot = store.snapshot();
+        assertEquals(THREADS * PER_THREAD, snapshot.employees().size());
+        assertEquals(THREADS * PER_THREAD, snapshot.version());
+        for (List<MockEmployee> mine : added) {
+            for (MockEmployee employee : mine) {
+                assertEquals(Optional.of(employee), store.findById(employee.getId()));
+            }
+        }
+        assertEquals(PER_THREAD - 1, store.highestSalary().getAsInt());
+    }
+
+    @Test
+    void concurrentDeletesOfOneName_EachRemovesADifferentEmployee() throws Exception {
+        List<MockEmployee> twins = new ArrayList<>();
+        for (int i = 0; i < THREADS * PER_THREAD; i++) {
+            twins.add(employee("Sam Twin", i));
+        }
+        MockEmployeeStore store = store(twins);
+
+        List<List<MockEmployee>> removed = runConcurrently(thread -> {
+            List<MockEmployee> mine = new ArrayList<>();
+            for (int i = 0; i < PER_THREAD; i++) {
+                mine.add(store.removeFirstByName("sam twin").orElseThrow());
+            }
+            return mine;
+        });
+
+        Set<UUID> removedIds = new HashSet<>();
+        for (List<MockEmployee> mine : removed) {
+            for (int i = 1; i < mine.size(); i++) {
+                // Oldest first: each thread sees its removals in insertion order
+                assertTrue(mine.get(i - 1).getSalary() < mine.get(i).getSalary());
+            }
+            mine.forEach(employee -> assertTrue(removedIds.add(employee.getId())));
+        }
+        assertEquals(THREADS * PER_THREAD, removedIds.size());
+        assertTrue(store.snapshot().employees().isEmpty());
+        assertTrue(store.highestSalary().isEmpty());
+        assertEquals(THREADS * PER_THREAD, changeLog.version());
+    }
+
+    @Test
+    void concurrentReadsDuringWrites_SnapshotVersionMatchesContents() throws Exception {
+        MockEmployeeStore store = store(List.of());
+
+        runConcurrently(thread -> {
+            if (thread % 2 == 0) {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    store.add(employee("Writer " + thread + "-" + i, i));
+                }
+            } else {
+                for (int i = 0; i < PER_THREAD; i++) {
+                    MockEmployeeStore.Snapshot snapshot = store.snapshot();
+                    // Only creates happen, so the version counts exactly the employees listed
+                    assertEquals(snapshot.version(), snapshot.employees().size());
+                }
+            }
+            return List.of();
+        });
+
+        assertEquals(THREADS / 2 * PER_THREAD, store.snapshot().employees().size());
+    }
+
+    @Test
+    void failedJournalAppends_WritesUndoneBeforeTheCallerSeesTheFailure() {
+        MockEmployee kept = employee("Tiger Nixon", 100);
+        FailingJournal journal = new FailingJournal();
+        MockEmployeeStore store = new MockEmployeeStore(List.of(kept), changeLog, journal);
+        MockEmployee created = employee("Bill Bob", 200);
+
+        journal.failing = true;
+        assertThrows(CompletionException.class, () -> store.add(created));
+        assertThrows(CompletionException.class, () -> store.removeFirstByName("tiger nixon"));
+
+        assertEquals(List.of(kept), store.snapshot().employees());
+        assertEquals(Optional.empty(), store.findById(created.getId()));
+        assertEquals(100, store.highestSalary().getAsInt());
+        // Each undo is a change of its own, so clients that saw the write see it taken back
+        assertEquals(4, changeLog.version());
+        journal.failing = false;
+        assertEquals(Optional.of(kept), store.removeFirstByName("Tiger Nixon"));
+    }
+
+    private MockEmployeeStore store(List<MockEmployee> employees) {
+        return new MockEmployeeStore(employees, changeLog, EmployeeJournal.NONE);
+    }
+
+    /** Runs {@code worker} on every thread at once and returns what each returned, after all have finished. */
+    private List<List<MockEmployee>> runConcurrently(Worker worker) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<MockEmployee>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int id = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return worker.run(id);
+            }));
+        }
+        start.countDown();
+        List<List<MockEmployee>> results = new ArrayList<>();
+        for (Future<List<MockEmployee>> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private static MockEmployee employee(String name, int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .age(30)
+                .build();
+    }
+
+    private interface Worker {
+        List<MockEmployee> run(int thread) throws Exception;
+    }
+
+    private static class FailingJournal implements EmployeeJournal {
+
+        private volatile boolean failing;
+
+        @Override
+        public Optional<List<MockEmployee>> recover() {
+            return Optional.empty();
+        }
+
+        @Override
+        public CompletableFuture<Void> appendCreated(MockEmployee employee) {
+            return result();
+        }
+
+        @Override
+        public CompletableFuture<Void> appendDeleted(UUID id) {
+            return result();
+        }
+
+        @Override
+        public long startSegment() {
+            return 0;
+        }
+
+        @Override
+        public void writeSnapshot(long segment, List<MockEmployee> employees) {}
+
+        private CompletableFuture<Void> result() {
+            return failing
+                    ? CompletableFuture.failedFuture(new IOException("disk full"))
+                    : CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryRankingTest {
+
+    private final SalaryRanking ranking = new SalaryRanking();
+
+    @Test
+    void top_HighestFirstAndTiesInInsertionOrder() {
+        MockEmployee first = employee("First", 300);
+        MockEmployee tied = employee("Tied", 300);
+        MockEmployee highest = employee("Highest", 500);
+        MockEmployee lowest = employee("Lowest", 100);
+        List.of(first, tied, highest, employee("Unpaid", null), lowest).forEach(ranking::add);
+
+        assertEquals(List.of(highest, first, tied), ranking.top(3));
+        // Employees without a salary are not ranked
+        assertEquals(List.of(highest, first, tied, lowest), ranking.top(10));
+        assertEquals(500, ranking.highest().getAsInt());
+    }
+
+    @Test
+    void remove_DropsOnlyThatEmployee() {
+        MockEmployee first = employee("First", 300);
+        MockEmployee twin = employee("Twin", 300);
+        ranking.add(first);
+        ranking.add(twin);
+
+        ranking.remove(first);
+        ranking.remove(employee("Never Added", 300));
+
+        assertEquals(List.of(twin), ranking.top(10));
+        ranking.remove(twin);
+        assertTrue(ranking.highest().isEmpty());
+        assertEquals(List.of(), ranking.top(10));
+    }
+
+    @Test
+    void top_AfterRandomAddsAndRemoves_MatchesSortedEmployees() {
+        Random random = new Random(42);
+        List<MockEmployee> present = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            if (!present.isEmpty() && random.nextInt(3) == 0) {
+                ranking.remove(present.remove(random.nextInt(present.size())));
+            } else {
+                MockEmployee employee = employee("Employee " + i, random.nextInt(50));
+                ranking.add(employee);
+                present.add(employee);
+            }
+        }
+
+        // present is in insertion order, so a stable sort by salary gives the expected tie order
+        List<MockEmployee> expected = present.stream()
+                .sorted(Comparator.comparing(MockEmployee::getSalary).reversed())
+                .limit(25)
+                .toList();
+        assertEquals(expected, ranking.top(25));
+        assertEquals(expected.get(0).getSalary().intValue(), ranking.highest().getAsInt());
+    }
+
+    private static MockEmployee employee(String name, Integer salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.FaultProfile;
+import com.reliaquest.server.model.FaultSettings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectorTest {
+
+    private static final String ENDPOINTS = "{"
+            + "\"GET /api/v1/employee\": {\"latency\": \"BIMODAL\", \"latencyMs\": 20, \"slowLatencyMs\": 2000,"
+            + " \"slowRate\": 0.1, \"sigma\": 0.3, \"errorRate\": 0.2, \"resetRate\": 0.1},"
+            + "\"*\": {\"latency\": \"LOGNORMAL\", \"latencyMs\": 50, \"sigma\": 0.5, \"errorRate\": 0.5}}";
+    private static final String LIST = "/api/v1/employee";
+
+    @Test
+    void next_SameSeed_ReplaysSameFaults() throws JsonProcessingException {
+        List<FaultInjector.Fault> first = draw(injector(7L), 200);
+        List<FaultInjector.Fault> second = draw(injector(7L), 200);
+
+        assertEquals(first, second);
+        assertTrue(first.stream().anyMatch(fault -> fault.kind() == FaultInjector.Fault.Kind.ERROR));
+        assertTrue(first.stream().anyMatch(fault -> fault.kind() == FaultInjector.Fault.Kind.RESET));
+        assertTrue(first.stream().anyMatch(fault -> fault.latencyMillis() > 500));
+    }
+
+    @Test
+    void next_InterleavedEndpoints_EachKeepsItsSequence() throws JsonProcessingException {
+        List<FaultInjector.Fault> alone = draw(injector(7L), 100);
+
+        FaultInjector interleaved = injector(7L);
+        List<FaultInjector.Fault> mixed = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            interleaved.next("DELETE", LIST);
+            mixed.add(interleaved.next("GET", LIST));
+            interleaved.next("GET", "/api/v1/employee/{id}");
+        }
+
+        assertEquals(alone, mixed);
+    }
+
+    @Test
+    void next_DifferentSeed_DifferentFaults() throws JsonProcessingException {
+        assertNotEquals(draw(injector(7L), 100), draw(injector(8L), 100));
+    }
+
+    @Test
+    void configure_RestartsEachEndpointSequence() throws JsonProcessingException {
+        FaultInjector injector = injector(7L);
+        List<FaultInjector.Fault> before = draw(injector, 50);
+
+        injector.configure(injector.settings());
+
+        assertEquals(before, draw(injector, 50));
+    }
+
+    @Test
+    void next_FallsBackToPatternThenWildcard() throws JsonProcessingException {
+        FaultInjector injector = new FaultInjector(new ObjectMapper(), 7L, "{}");
+        injector.configure(new FaultSettings(
+                7L,
+                Map.of(
+                        LIST, new FaultProfile(FaultProfile.Latency.FIXED, 10, 0, 0, 0, 0, 0, 0, 0),
+                        "*", new FaultProfile(FaultProfile.Latency.FIXED, 99, 0, 0, 0, 0, 1, 503, 0))));
+
+        assertEquals(10, injector.next("POST", LIST).latencyMillis());
+        FaultInjector.Fault other = injector.next("GET", "/api/v1/employee/{id}");
+        assertEquals(new FaultInjector.Fault(99, FaultInjector.Fault.Kind.ERROR, 503), other);
+    }
+
+    @Test
+    void next_NoProfile_NoFault() throws JsonProcessingException {
+        assertNull(new FaultInjector(new ObjectMapper(), 7L, "{}").next("GET", LIST));
+    }
+
+    @Test
+    void configure_RatesAboveOne_Rejected() throws JsonProcessingException {
+        FaultInjector injector = new FaultInjector(new ObjectMapper(), 7L, "{}");
+        FaultSettings invalid = new FaultSettings(
+                7L, Map.of("*", new FaultProfile(FaultProfile.Latency.NONE, 0, 0, 0, 0, 0, 0.6, 0, 0.6)));
+
+        assertThrows(IllegalArgumentException.class, () -> injector.configure(invalid));
+    }
+
+    private static FaultInjector injector(Long seed) throws JsonProcessingException {
+        return new FaultInjector(new ObjectMapper(), seed, ENDPOINTS);
+    }
+
+    private static List<FaultInjector.Fault> draw(FaultInjector injector, int requests) {
+        List<FaultInjector.Fault> faults = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            faults.add(injector.next("GET", LIST));
+        }
+        return faults;
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketRateLimitInterceptorTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void preHandle_BurstAllowedThenRejectedWithRetryAfter() {
+        TokenBucketRateLimitInterceptor limiter = limiter(1, 3, 100);
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            MockHttpServletResponse response = send(limiter, "alice", true);
+            assertEquals("3", response.getHeader("X-RateLimit-Limit"));
+            assertEquals(Integer.toString(remaining), response.getHeader("X-RateLimit-Remaining"));
+            assertEquals(Integer.toString(3 - remaining), response.getHeader("X-RateLimit-Reset"));
+        }
+
+        MockHttpServletResponse rejected = send(limiter, "alice", false);
+        assertEquals(429, rejected.getStatus());
+        assertEquals("0", rejected.getHeader("X-RateLimit-Remaining"));
+        assertEquals("3", rejected.getHeader("X-RateLimit-Reset"));
+        assertEquals("1", rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    void preHandle_RefillsOneTokenPerIntervalUpToBurst() {
+        TokenBucketRateLimitInterceptor limiter = limiter(1, 3, 100);
+        for (int i = 0; i < 3; i++) {
+            send(limiter, "alice", true);
+        }
+        send(limiter, "alice", false);
+
+        advance(1000);
+        assertEquals("0", send(limiter, "alice", true).getHeader("X-RateLimit-Remaining"));
+        send(limiter, "alice", false);
+
+        advance(60_000);
+        assertEquals("2", send(limiter, "alice", true).getHeader("X-RateLimit-Remaining"));
+    }
+
+    @Test
+    void preHandle_RetryAfterRoundsUpToWholeSeconds() {
+        TokenBucketRateLimitInterceptor limiter = limiter(0.5, 1, 100);
+        send(limiter, "alice", true);
+
+        advance(500);
+        MockHttpServletResponse rejected = send(limiter, "alice", false);
+
+        // Next token at 2s, now 0.5s in: 1.5s to wait
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertEquals("2", rejected.getHeader("X-RateLimit-Reset"));
+    }
+
+    @Test
+    void preHandle_ClientsHaveSeparateBuckets() {
+        TokenBucketRateLimitInterceptor limiter = limiter(1, 1, 100);
+        send(limiter, "alice", true);
+        send(limiter, "alice", false);
+
+        send(limiter, "bob", true);
+        send(limiter, null, true);
+        send(limiter, null, false);
+    }
+
+    @Test
+    void preHandle_AtMaxClients_ForgetsClientsWithFullBuckets() {
+        TokenBucketRateLimitInterceptor limiter = limiter(1, 1, 2);
+        send(limiter, "alice", true);
+        send(limiter, "bob", true);
+
+        advance(500);
+        send(limiter, "carol", true);
+        assertEquals(3, limiter.trackedClients(), "buckets still refilling are kept");
+
+        advance(5000);
+        send(limiter, "dave", true);
+        assertEquals(1, limiter.trackedClients());
+        send(limiter, "alice", true);
+    }
+
+    private TokenBucketRateLimitInterceptor limiter(double rate, int burst, int maxClients) {
+        return new TokenBucketRateLimitInterceptor(rate, burst, "X-Client-Id", maxClients, clock::get);
+    }
+
+    private MockHttpServletResponse send(TokenBucketRateLimitInterceptor limiter, String client, boolean allowed) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertEquals(allowed, limiter.preHandle(request, response, new Object()));
+        return response;
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}